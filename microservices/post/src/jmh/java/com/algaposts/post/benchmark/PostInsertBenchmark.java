@@ -0,0 +1,113 @@
+package com.algaposts.post.benchmark;
+
+import com.algaposts.post.domain.model.UuidV7;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Timeout(time = 2, timeUnit = TimeUnit.HOURS)
+public class PostInsertBenchmark {
+
+    private static final String BODY = "Conteúdo do post usado no benchmark de inserção. ".repeat(4);
+
+    @Param({"random", "v7"})
+    private String keys;
+
+    @Param({"1000000", "10000000"})
+    private int rows;
+
+    @Param("1000")
+    private int batchSize;
+
+    private Path directory;
+    private Connection connection;
+    private Supplier<UUID> idGenerator;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Storage {
+
+        public double rowsPerSecond;
+        public double tableMiB;
+        public double fileMiB;
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("post-insert-benchmark");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("post") + ";CASE_INSENSITIVE_IDENTIFIERS=TRUE", "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE post (
+                        id UUID NOT NULL PRIMARY KEY,
+                        title VARCHAR(255),
+                        body CHARACTER LARGE OBJECT,
+                        author VARCHAR(255),
+                        word_count INTEGER,
+                        calculated_value NUMERIC(38, 2),
+                        summary VARCHAR(353))
+                    """);
+        }
+        idGenerator = switch (keys) {
+            case "random" -> UUID::randomUUID;
+            case "v7" -> UuidV7::generate;
+            default -> throw new IllegalArgumentException("Tipo de chave desconhecido: " + keys);
+        };
+    }
+
+    @Benchmark
+    public void insert(Storage storage) throws IOException, SQLException {
+        long startNanos = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO post (id, title, body, author) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                statement.setObject(1, idGenerator.get());
+                statement.setString(2, "Post " + i);
+                statement.setString(3, BODY);
+                statement.setString(4, "Autor");
+                statement.addBatch();
+                if (i % batchSize == 0 || i == rows) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        storage.rowsPerSecond = rows / ((System.nanoTime() - startNanos) / 1e9);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CHECKPOINT SYNC");
+            try (ResultSet resultSet = statement.executeQuery("CALL DISK_SPACE_USED('POST')")) {
+                resultSet.next();
+                storage.tableMiB = resultSet.getLong(1) / 1048576.0;
+            }
+        }
+        storage.fileMiB = Files.size(directory.resolve("post.mv.db")) / 1048576.0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException, SQLException {
+        try {
+            connection.close();
+        } finally {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.algaposts.post;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+@EnableScheduling
+@SpringBootApplication(scanBasePackages = {"com.algaposts.post", "com.algaposts.shared.text"})
 public class PostApplication {
 
 	public static void main(String[] args) {
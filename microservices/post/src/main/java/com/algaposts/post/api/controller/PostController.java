@@ -1,16 +1,40 @@
 package com.algaposts.post.api.controller;
 
+import com.algaposts.post.api.dto.PostBatchOutput;
+import com.algaposts.post.api.dto.PostCursorPageOutput;
 import com.algaposts.post.api.dto.PostInput;
 import com.algaposts.post.api.dto.PostOutput;
 import com.algaposts.post.api.dto.PostSummaryOutput;
+import com.algaposts.post.domain.model.Post;
+import com.algaposts.post.domain.repository.PostExportField;
 import com.algaposts.post.domain.service.PostService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -19,6 +43,10 @@ import java.util.UUID;
 public class PostController {
 
     private final PostService postService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${post.export.timeout-ms:3600000}")
+    private long exportTimeoutMs;
 
     @PostMapping
     public ResponseEntity<PostOutput> createPost(@RequestBody @Valid PostInput postInput) {
@@ -26,6 +54,35 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.CREATED).body(postOutput);
     }
 
+    @PostMapping(value = "/stream", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<PostOutput> createPostFromStream(
+            @RequestParam("title") String title,
+            @RequestParam("author") String author,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        var charset = Optional.ofNullable(contentType.getCharset()).orElse(StandardCharsets.UTF_8);
+        var postOutput = postService.processPostStream(title, author, new InputStreamReader(body, charset));
+        return ResponseEntity.status(HttpStatus.CREATED).body(postOutput);
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PostBatchOutput> createPosts(@RequestBody List<PostInput> postInputs) {
+        return toBatchResponse(postService.processPosts(postInputs));
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PostBatchOutput> createPostsFromNdjson(InputStream body) throws IOException {
+        List<PostInput> postInputs = new ArrayList<>();
+        try (MappingIterator<PostInput> lines = objectMapper.readerFor(PostInput.class).readValues(body)) {
+            while (lines.hasNextValue() && postInputs.size() <= postService.getBatchMaxSize()) {
+                postInputs.add(lines.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "NDJSON inválido na linha " + (postInputs.size() + 1), e);
+        }
+        return toBatchResponse(postService.processPosts(postInputs));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<PostOutput> findPostById(@PathVariable("id") UUID id) {
         var post = postService.findPostById(id);
@@ -39,4 +96,60 @@ public class PostController {
         var posts = postService.findAllPosts(page, size);
         return ResponseEntity.ok(posts);
     }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<PostCursorPageOutput> scrollPosts(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        var posts = postService.scrollPosts(cursor, size);
+        return ResponseEntity.ok(posts);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> exportPosts(
+            @RequestParam(value = "fields", required = false) List<String> fields,
+            @RequestParam(value = "after", required = false) UUID after,
+            HttpServletResponse response) {
+        var selectedFields = toExportFields(fields);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        return new WebAsyncTask<>(exportTimeoutMs, () -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())
+                    .setRootValueSeparator(null)) {
+                postService.exportPosts(after, selectedFields, post -> writeLine(generator, post, selectedFields));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return null;
+        });
+    }
+
+    private Set<PostExportField> toExportFields(List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return EnumSet.allOf(PostExportField.class);
+        }
+        Set<PostExportField> selected = EnumSet.of(PostExportField.ID);
+        for (String field : fields) {
+            selected.add(PostExportField.fromProperty(field.trim()).orElseThrow(() ->
+                    new ResponseStatusException(HttpStatus.BAD_REQUEST, "Campo desconhecido: " + field)));
+        }
+        return selected;
+    }
+
+    private void writeLine(JsonGenerator generator, Post post, Set<PostExportField> fields) {
+        try {
+            generator.writeStartObject();
+            for (PostExportField field : fields) {
+                generator.writeObjectField(field.getProperty(), field.valueOf(post));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ResponseEntity<PostBatchOutput> toBatchResponse(PostBatchOutput output) {
+        var status = output.getCreated() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(output);
+    }
 }
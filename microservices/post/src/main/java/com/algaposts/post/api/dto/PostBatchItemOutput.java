@@ -0,0 +1,19 @@
+package com.algaposts.post.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostBatchItemOutput {
+    private int index;
+    private UUID id;
+    private List<String> errors;
+}
@@ -0,0 +1,15 @@
+package com.algaposts.post.api.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class PostBatchOutput {
+    private int created;
+    private List<PostBatchItemOutput> items;
+}
@@ -0,0 +1,16 @@
+package com.algaposts.post.api.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class PostCursorPageOutput {
+    private List<PostSummaryOutput> content;
+    private int size;
+    private String next;
+}
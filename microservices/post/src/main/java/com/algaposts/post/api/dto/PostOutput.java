@@ -19,4 +19,8 @@ public class PostOutput {
     private String author;
     private Integer wordCount;
     private BigDecimal calculatedValue;
+    private Integer characterCount;
+    private Integer sentenceCount;
+    private Integer uniqueWordCount;
+    private Integer readingTimeSeconds;
 }
@@ -5,7 +5,6 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @Getter
@@ -15,6 +14,4 @@ import java.util.UUID;
 public class TextProcessorData {
     private UUID postId;
     private String postBody;
-    private Integer wordCount;
-    private BigDecimal calculatedValue;
 }
@@ -0,0 +1,23 @@
+package com.algaposts.post.api.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@ToString
+public class TextProcessorResultData {
+    private UUID postId;
+    private Integer wordCount;
+    private BigDecimal calculatedValue;
+    private Integer characterCount;
+    private Integer sentenceCount;
+    private Integer uniqueWordCount;
+    private Integer readingTimeSeconds;
+}
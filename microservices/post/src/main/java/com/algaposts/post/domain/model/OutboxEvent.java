@@ -0,0 +1,41 @@
+package com.algaposts.post.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@Builder
+@ToString(exclude = "payload")
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "outbox_event", indexes = @Index(name = "idx_outbox_event_created_at", columnList = "createdAt"))
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    private UUID aggregateId;
+    private String exchange;
+    private String routingKey;
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+    private OffsetDateTime createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        OutboxEvent that = (OutboxEvent) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
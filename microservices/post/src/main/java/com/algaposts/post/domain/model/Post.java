@@ -26,6 +26,12 @@ public class Post {
     private String author;
     private Integer wordCount;
     private BigDecimal calculatedValue;
+    @Column(length = 353)
+    private String summary;
+    private Integer characterCount;
+    private Integer sentenceCount;
+    private Integer uniqueWordCount;
+    private Integer readingTimeSeconds;
 
     @Override
     public boolean equals(Object o) {
@@ -0,0 +1,13 @@
+package com.algaposts.post.domain.repository;
+
+import com.algaposts.post.domain.model.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    List<OutboxEvent> findByOrderByCreatedAtAsc(Limit limit);
+}
@@ -0,0 +1,12 @@
+package com.algaposts.post.domain.repository;
+
+import java.util.UUID;
+
+public interface PostBodyPrefixView {
+
+    int BODY_PREFIX_LENGTH = 351;
+
+    UUID getId();
+
+    String getBodyPrefix();
+}
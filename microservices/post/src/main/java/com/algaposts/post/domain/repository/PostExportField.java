@@ -0,0 +1,48 @@
+package com.algaposts.post.domain.repository;
+
+import com.algaposts.post.domain.model.Post;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Getter
+@RequiredArgsConstructor
+public enum PostExportField {
+
+    ID("id", "id"),
+    TITLE("title", "title"),
+    BODY("body", "body"),
+    AUTHOR("author", "author"),
+    WORD_COUNT("wordCount", "word_count"),
+    CALCULATED_VALUE("calculatedValue", "calculated_value"),
+    CHARACTER_COUNT("characterCount", "character_count"),
+    SENTENCE_COUNT("sentenceCount", "sentence_count"),
+    UNIQUE_WORD_COUNT("uniqueWordCount", "unique_word_count"),
+    READING_TIME_SECONDS("readingTimeSeconds", "reading_time_seconds"),
+    SUMMARY("summary", "summary");
+
+    private final String property;
+    private final String column;
+
+    public Object valueOf(Post post) {
+        return switch (this) {
+            case ID -> post.getId();
+            case TITLE -> post.getTitle();
+            case BODY -> post.getBody();
+            case AUTHOR -> post.getAuthor();
+            case WORD_COUNT -> post.getWordCount();
+            case CALCULATED_VALUE -> post.getCalculatedValue();
+            case CHARACTER_COUNT -> post.getCharacterCount();
+            case SENTENCE_COUNT -> post.getSentenceCount();
+            case UNIQUE_WORD_COUNT -> post.getUniqueWordCount();
+            case READING_TIME_SECONDS -> post.getReadingTimeSeconds();
+            case SUMMARY -> post.getSummary();
+        };
+    }
+
+    public static Optional<PostExportField> fromProperty(String property) {
+        return Arrays.stream(values()).filter(field -> field.property.equals(property)).findFirst();
+    }
+}
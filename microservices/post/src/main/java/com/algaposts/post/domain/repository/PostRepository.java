@@ -1,9 +1,35 @@
 package com.algaposts.post.domain.repository;
 
 import com.algaposts.post.domain.model.Post;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
-public interface PostRepository extends JpaRepository<Post, UUID> {
+public interface PostRepository extends JpaRepository<Post, UUID>, PostRepositoryCustom {
+
+    @Query(value = "select p.id as id, p.title as title, p.author as author, p.summary as summary, " +
+            "case when p.summary is null then substring(p.body, 1, " + PostBodyPrefixView.BODY_PREFIX_LENGTH + ") end " +
+            "as bodyPrefix from Post p",
+            countQuery = "select count(p) from Post p")
+    Page<PostSummaryView> findAllSummaries(Pageable pageable);
+
+    @Query("select p.id as id, p.title as title, p.author as author, p.summary as summary, " +
+            "case when p.summary is null then substring(p.body, 1, " + PostBodyPrefixView.BODY_PREFIX_LENGTH + ") end " +
+            "as bodyPrefix from Post p order by p.id")
+    List<PostSummaryView> findFirstSummaries(Limit limit);
+
+    @Query("select p.id as id, p.title as title, p.author as author, p.summary as summary, " +
+            "case when p.summary is null then substring(p.body, 1, " + PostBodyPrefixView.BODY_PREFIX_LENGTH + ") end " +
+            "as bodyPrefix from Post p where p.id > :after order by p.id")
+    List<PostSummaryView> findSummariesAfter(@Param("after") UUID after, Limit limit);
+
+    @Query("select p.id as id, substring(p.body, 1, " + PostBodyPrefixView.BODY_PREFIX_LENGTH + ") as bodyPrefix " +
+            "from Post p where p.summary is null")
+    List<PostBodyPrefixView> findWithoutSummary(Limit limit);
 }
@@ -0,0 +1,27 @@
+package com.algaposts.post.domain.repository;
+
+import com.algaposts.post.api.dto.TextProcessorResultData;
+import com.algaposts.post.domain.model.Post;
+
+import java.io.Reader;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public interface PostRepositoryCustom {
+
+    boolean applyProcessedData(TextProcessorResultData processedData);
+
+    List<UUID> updateProcessedData(List<TextProcessorResultData> processedData);
+
+    void updateSummaries(Map<UUID, String> summaries);
+
+    Post insertWithStreamedBody(Reader body, Supplier<Post> post);
+
+    void insertPosts(List<Post> posts);
+
+    void streamPosts(UUID after, Set<PostExportField> fields, int fetchSize, Consumer<Post> consumer);
+}
@@ -0,0 +1,160 @@
+package com.algaposts.post.domain.repository;
+
+import com.algaposts.post.api.dto.TextProcessorResultData;
+import com.algaposts.post.domain.model.Post;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.sql.Clob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+    private static final String UPDATE_PROCESSED_DATA =
+            "UPDATE post SET word_count = ?, calculated_value = ?, character_count = ?, sentence_count = ?, "
+                    + "unique_word_count = ?, reading_time_seconds = ? WHERE id = ? AND word_count IS NULL";
+    private static final String UPDATE_SUMMARY = "UPDATE post SET summary = ? WHERE id = ?";
+    private static final String INSERT_WITH_STREAMED_BODY = "INSERT INTO post (id, title, author, body, word_count, "
+            + "calculated_value, character_count, sentence_count, unique_word_count, reading_time_seconds, summary) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_POST = "INSERT INTO post (id, title, body, author, word_count, calculated_value, summary) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_FOR_EXPORT = "SELECT %s FROM post%s ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean applyProcessedData(TextProcessorResultData processedData) {
+        return jdbcTemplate.update(UPDATE_PROCESSED_DATA, ps -> setProcessedData(ps, processedData)) > 0;
+    }
+
+    @Override
+    public List<UUID> updateProcessedData(List<TextProcessorResultData> processedData) {
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_PROCESSED_DATA, processedData, processedData.size(),
+                this::setProcessedData);
+        List<UUID> updated = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count != 0) {
+                    updated.add(processedData.get(index).getPostId());
+                }
+                index++;
+            }
+        }
+        return updated;
+    }
+
+    private void setProcessedData(PreparedStatement ps, TextProcessorResultData data) throws SQLException {
+        ps.setObject(1, data.getWordCount());
+        ps.setBigDecimal(2, data.getCalculatedValue());
+        ps.setObject(3, data.getCharacterCount());
+        ps.setObject(4, data.getSentenceCount());
+        ps.setObject(5, data.getUniqueWordCount());
+        ps.setObject(6, data.getReadingTimeSeconds());
+        ps.setObject(7, data.getPostId());
+    }
+
+    @Override
+    public void updateSummaries(Map<UUID, String> summaries) {
+        jdbcTemplate.batchUpdate(UPDATE_SUMMARY, summaries.entrySet(), summaries.size(), (ps, summary) -> {
+            ps.setString(1, summary.getValue());
+            ps.setObject(2, summary.getKey());
+        });
+    }
+
+    @Override
+    public Post insertWithStreamedBody(Reader body, Supplier<Post> postSupplier) {
+        return jdbcTemplate.execute((ConnectionCallback<Post>) connection -> {
+            Clob clob = connection.createClob();
+            try {
+                try (Writer writer = clob.setCharacterStream(1)) {
+                    body.transferTo(writer);
+                } catch (IOException e) {
+                    throw new SQLException("Falha ao ler o body do post", e);
+                }
+                Post post = postSupplier.get();
+                try (PreparedStatement ps = connection.prepareStatement(INSERT_WITH_STREAMED_BODY)) {
+                    ps.setObject(1, post.getId());
+                    ps.setString(2, post.getTitle());
+                    ps.setString(3, post.getAuthor());
+                    ps.setClob(4, clob);
+                    ps.setObject(5, post.getWordCount());
+                    ps.setBigDecimal(6, post.getCalculatedValue());
+                    ps.setObject(7, post.getCharacterCount());
+                    ps.setObject(8, post.getSentenceCount());
+                    ps.setObject(9, post.getUniqueWordCount());
+                    ps.setObject(10, post.getReadingTimeSeconds());
+                    ps.setString(11, post.getSummary());
+                    ps.executeUpdate();
+                }
+                return post;
+            } finally {
+                clob.free();
+            }
+        });
+    }
+
+    @Override
+    public void insertPosts(List<Post> posts) {
+        jdbcTemplate.batchUpdate(INSERT_POST, posts, posts.size(), (ps, post) -> {
+            ps.setObject(1, post.getId());
+            ps.setString(2, post.getTitle());
+            ps.setString(3, post.getBody());
+            ps.setString(4, post.getAuthor());
+            ps.setObject(5, post.getWordCount());
+            ps.setBigDecimal(6, post.getCalculatedValue());
+            ps.setString(7, post.getSummary());
+        });
+    }
+
+    @Override
+    public void streamPosts(UUID after, Set<PostExportField> fields, int fetchSize, Consumer<Post> consumer) {
+        String columns = fields.stream().map(PostExportField::getColumn).collect(Collectors.joining(", "));
+        String sql = SELECT_FOR_EXPORT.formatted(columns, after != null ? " WHERE id > ?" : "");
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            if (after != null) {
+                ps.setObject(1, after);
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(toPost(rs, fields)));
+    }
+
+    private Post toPost(ResultSet rs, Set<PostExportField> fields) throws SQLException {
+        var post = new Post();
+        for (PostExportField field : fields) {
+            switch (field) {
+                case ID -> post.setId(rs.getObject(field.getColumn(), UUID.class));
+                case TITLE -> post.setTitle(rs.getString(field.getColumn()));
+                case BODY -> post.setBody(rs.getString(field.getColumn()));
+                case AUTHOR -> post.setAuthor(rs.getString(field.getColumn()));
+                case WORD_COUNT -> post.setWordCount(rs.getObject(field.getColumn(), Integer.class));
+                case CALCULATED_VALUE -> post.setCalculatedValue(rs.getBigDecimal(field.getColumn()));
+                case CHARACTER_COUNT -> post.setCharacterCount(rs.getObject(field.getColumn(), Integer.class));
+                case SENTENCE_COUNT -> post.setSentenceCount(rs.getObject(field.getColumn(), Integer.class));
+                case UNIQUE_WORD_COUNT -> post.setUniqueWordCount(rs.getObject(field.getColumn(), Integer.class));
+                case READING_TIME_SECONDS -> post.setReadingTimeSeconds(rs.getObject(field.getColumn(), Integer.class));
+                case SUMMARY -> post.setSummary(rs.getString(field.getColumn()));
+            }
+        }
+        return post;
+    }
+}
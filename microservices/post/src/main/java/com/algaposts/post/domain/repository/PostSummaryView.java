@@ -0,0 +1,14 @@
+package com.algaposts.post.domain.repository;
+
+import java.util.UUID;
+
+public interface PostSummaryView extends PostBodyPrefixView {
+
+    UUID getId();
+
+    String getTitle();
+
+    String getAuthor();
+
+    String getSummary();
+}
@@ -1,23 +1,46 @@
 package com.algaposts.post.domain.service;
 
+import com.algaposts.post.api.dto.PostBatchItemOutput;
+import com.algaposts.post.api.dto.PostBatchOutput;
+import com.algaposts.post.api.dto.PostCursorPageOutput;
 import com.algaposts.post.api.dto.PostInput;
 import com.algaposts.post.api.dto.PostSummaryOutput;
 import com.algaposts.post.mapper.PostMapper;
 import com.algaposts.post.api.dto.PostOutput;
-import com.algaposts.post.api.dto.TextProcessorData;
+import com.algaposts.post.api.dto.TextProcessorResultData;
 import com.algaposts.post.domain.model.Post;
+import com.algaposts.post.domain.model.UuidV7;
+import com.algaposts.post.domain.repository.PostBodyPrefixView;
+import com.algaposts.post.domain.repository.PostExportField;
 import com.algaposts.post.domain.repository.PostRepository;
+import com.algaposts.post.domain.repository.PostSummaryView;
+import com.algaposts.post.infrastructure.cache.CacheConfig;
 import com.algaposts.post.infrastructure.rabbitmq.EventPublisher;
+import com.algaposts.shared.text.TextEvaluation;
+import com.algaposts.shared.text.impl.TextEvaluator;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -27,13 +50,145 @@ public class PostService {
     private final PostRepository postRepository;
     private final EventPublisher eventPublisher;
     private final PostMapper postMapper;
+    private final CacheManager cacheManager;
+    private final TextEvaluator textEvaluator;
+    private final Validator validator;
+
+    @Value("${post.inline-processing.enabled:false}")
+    private boolean inlineProcessingEnabled;
+
+    @Value("${post.inline-processing.max-body-chars:4096}")
+    private int inlineMaxBodyChars;
+
+    @Value("${post.batch.max-size:1000}")
+    private int batchMaxSize;
+
+    @Value("${post.scroll.max-size:100}")
+    private int scrollMaxSize;
+
+    @Value("${post.export.fetch-size:1000}")
+    private int exportFetchSize;
 
     @Transactional
     public PostOutput processPost(PostInput postInput) {
         log.info("Criando post: {}", postInput);
         var post = postMapper.toEntity(postInput);
+        boolean pending = !processInline(List.of(post)).isEmpty();
         post = save(post);
-        eventPublisher.publishPostCreated(post);
+        if (pending) {
+            eventPublisher.publishPostCreated(post);
+        }
+        return postMapper.toOutput(post);
+    }
+
+    @Transactional
+    public PostBatchOutput processPosts(List<PostInput> postInputs) {
+        log.info("Criando lote de {} posts", postInputs.size());
+        if (postInputs.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Lote de posts vazio");
+        }
+        if (postInputs.size() > batchMaxSize) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Lote excede o tamanho máximo de " + batchMaxSize + " posts");
+        }
+
+        List<PostBatchItemOutput> invalid = validate(postInputs);
+        if (!invalid.isEmpty()) {
+            log.info("Lote rejeitado, {} posts inválidos", invalid.size());
+            return PostBatchOutput.builder().created(0).items(invalid).build();
+        }
+
+        List<Post> posts = postInputs.stream().map(postMapper::toEntity).toList();
+        List<Post> pending = processInline(posts);
+        postRepository.insertPosts(posts);
+        if (!pending.isEmpty()) {
+            eventPublisher.publishPostsCreated(pending);
+        }
+        log.info("Lote de {} posts criado, {} enviados para processamento", posts.size(), pending.size());
+
+        List<PostBatchItemOutput> items = new ArrayList<>(posts.size());
+        for (int i = 0; i < posts.size(); i++) {
+            items.add(PostBatchItemOutput.builder().index(i).id(posts.get(i).getId()).build());
+        }
+        return PostBatchOutput.builder().created(posts.size()).items(items).build();
+    }
+
+    @Transactional(readOnly = true)
+    public void exportPosts(UUID after, Set<PostExportField> fields, Consumer<Post> consumer) {
+        log.info("Exportando posts - após: {}, campos: {}", after, fields);
+        postRepository.streamPosts(after, fields, exportFetchSize, consumer);
+    }
+
+    public int getBatchMaxSize() {
+        return batchMaxSize;
+    }
+
+    private List<PostBatchItemOutput> validate(List<PostInput> postInputs) {
+        List<PostBatchItemOutput> invalid = new ArrayList<>();
+        for (int i = 0; i < postInputs.size(); i++) {
+            PostInput postInput = postInputs.get(i);
+            List<String> errors = postInput == null
+                    ? List.of("post é obrigatório")
+                    : validator.validate(postInput).stream()
+                            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                            .sorted()
+                            .toList();
+            if (!errors.isEmpty()) {
+                invalid.add(PostBatchItemOutput.builder().index(i).errors(errors).build());
+            }
+        }
+        return invalid;
+    }
+
+    private List<Post> processInline(List<Post> posts) {
+        if (!inlineProcessingEnabled) {
+            return posts;
+        }
+        List<Post> pending = new ArrayList<>();
+        for (Post post : posts) {
+            if (post.getBody().length() <= inlineMaxBodyChars) {
+                applyEvaluation(post, textEvaluator.evaluate(post.getBody()));
+            } else {
+                pending.add(post);
+            }
+        }
+        return pending;
+    }
+
+    private void applyEvaluation(Post post, TextEvaluation evaluation) {
+        post.setWordCount(evaluation.wordCount());
+        post.setCalculatedValue(evaluation.calculatedValue());
+        post.setCharacterCount(evaluation.characterCount());
+        post.setSentenceCount(evaluation.sentenceCount());
+        post.setUniqueWordCount(evaluation.uniqueWordCount());
+        post.setReadingTimeSeconds(evaluation.readingTimeSeconds());
+        log.info("Post {} processado de forma síncrona - palavras: {}", post.getId(), post.getWordCount());
+    }
+
+    @Transactional
+    public PostOutput processPostStream(String title, String author, Reader body) {
+        log.info("Criando post a partir de stream - título: {}, autor: {}", title, author);
+        if (!StringUtils.hasText(title) || !StringUtils.hasText(author)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Título e autor são obrigatórios");
+        }
+        var id = UuidV7.generate();
+        var reader = new WordCountingReader(body, textEvaluator.startEvaluation(), PostBodyPrefixView.BODY_PREFIX_LENGTH);
+        var post = postRepository.insertWithStreamedBody(reader, () -> {
+            TextEvaluation evaluation = reader.getEvaluation();
+            if (evaluation.wordCount() == 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Conteúdo do post é obrigatório");
+            }
+            var streamed = Post.builder()
+                    .id(id)
+                    .title(title)
+                    .author(author)
+                    .summary(postMapper.summarize(reader.getPrefix()))
+                    .build();
+            applyEvaluation(streamed, evaluation);
+            return streamed;
+        });
+        log.info("Post {} criado a partir de stream - caracteres: {}, palavras: {}, valor: {}",
+                id, reader.getLength(), post.getWordCount(), post.getCalculatedValue());
         return postMapper.toOutput(post);
     }
 
@@ -43,16 +198,36 @@ public class PostService {
     }
 
     @Transactional
-    public void updatePostWithProcessedData(TextProcessorData textProcessorData) {
-        log.info("Atualizando post com dados processados: {}", textProcessorData);
-        var post = postRepository.findById(textProcessorData.getPostId());
-        post.ifPresent(p -> {
-            p.setWordCount(textProcessorData.getWordCount());
-            p.setCalculatedValue(textProcessorData.getCalculatedValue());
-            save(p);
-        });
+    public boolean updatePostWithProcessedData(TextProcessorResultData textProcessorResultData) {
+        log.info("Atualizando post com dados processados: {}", textProcessorResultData);
+        boolean updated = postRepository.applyProcessedData(textProcessorResultData);
+        if (updated) {
+            evictFromCache(List.of(textProcessorResultData.getPostId()));
+        } else {
+            log.info("Resultado ignorado, post {} inexistente ou já processado", textProcessorResultData.getPostId());
+        }
+        return updated;
+    }
+
+    @Transactional
+    public List<UUID> updatePostsWithProcessedData(List<TextProcessorResultData> processedData) {
+        log.info("Atualizando {} posts com dados processados", processedData.size());
+        List<UUID> updated = postRepository.updateProcessedData(processedData);
+        if (updated.size() < processedData.size()) {
+            log.info("{} resultados ignorados, posts inexistentes ou já processados", processedData.size() - updated.size());
+        }
+        evictFromCache(updated);
+        return updated;
     }
 
+    private void evictFromCache(List<UUID> postIds) {
+        var cache = cacheManager.getCache(CacheConfig.POSTS_CACHE);
+        if (cache != null) {
+            postIds.forEach(cache::evict);
+        }
+    }
+
+    @Cacheable(cacheNames = CacheConfig.POSTS_CACHE, key = "#id", unless = "#result.wordCount == null")
     public PostOutput findPostById(UUID id) {
         log.info("Buscando post pelo id: {}", id);
         var post = postRepository.findById(id)
@@ -63,7 +238,48 @@ public class PostService {
     public Page<PostSummaryOutput> findAllPosts(int page, int size) {
         log.info("Buscando todos os posts - página: {}, tamanho: {}", page, size);
         var pageable = PageRequest.of(page, size);
-        Page<Post> postsPage = postRepository.findAll(pageable);
-        return postsPage.map(postMapper::toSummaryOutput);
+        Page<PostSummaryView> summariesPage = postRepository.findAllSummaries(pageable);
+        return summariesPage.map(postMapper::toSummaryOutput);
+    }
+
+    public PostCursorPageOutput scrollPosts(String cursor, int size) {
+        log.info("Buscando posts por cursor - cursor: {}, tamanho: {}", cursor, size);
+        if (size < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Tamanho deve ser maior que zero");
+        }
+        size = Math.min(size, scrollMaxSize);
+        var limit = Limit.of(size + 1);
+        List<PostSummaryView> summaries = cursor == null || cursor.isBlank()
+                ? postRepository.findFirstSummaries(limit)
+                : postRepository.findSummariesAfter(decodeCursor(cursor), limit);
+
+        boolean hasNext = summaries.size() > size;
+        if (hasNext) {
+            summaries = summaries.subList(0, size);
+        }
+        return PostCursorPageOutput.builder()
+                .content(summaries.stream().map(postMapper::toSummaryOutput).toList())
+                .size(summaries.size())
+                .next(hasNext ? encodeCursor(summaries.get(summaries.size() - 1).getId()) : null)
+                .build();
+    }
+
+    private String encodeCursor(UUID id) {
+        var buffer = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    private UUID decodeCursor(String cursor) {
+        try {
+            var buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            if (buffer.remaining() != 16) {
+                throw new IllegalArgumentException("Tamanho de cursor inválido");
+            }
+            return new UUID(buffer.getLong(), buffer.getLong());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido", e);
+        }
     }
 }
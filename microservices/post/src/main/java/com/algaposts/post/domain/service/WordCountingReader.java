@@ -0,0 +1,81 @@
+package com.algaposts.post.domain.service;
+
+import com.algaposts.shared.text.TextEvaluation;
+import com.algaposts.shared.text.impl.StreamingTextEvaluation;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+public class WordCountingReader extends FilterReader {
+
+    private final StreamingTextEvaluation evaluation;
+    private final StringBuilder prefix;
+    private final int prefixLength;
+    private long length;
+
+    public WordCountingReader(Reader in, StreamingTextEvaluation evaluation, int prefixLength) {
+        super(in);
+        this.evaluation = evaluation;
+        this.prefixLength = prefixLength;
+        this.prefix = new StringBuilder(prefixLength);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int c = super.read();
+        if (c >= 0) {
+            accept((char) c);
+        }
+        return c;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int count) throws IOException {
+        int read = super.read(buffer, offset, count);
+        for (int i = 0; i < read; i++) {
+            accept(buffer[offset + i]);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        throw new IOException("skip não suportado");
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        throw new IOException("mark não suportado");
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("reset não suportado");
+    }
+
+    public TextEvaluation getEvaluation() {
+        return evaluation.finish();
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public String getPrefix() {
+        return prefix.toString();
+    }
+
+    private void accept(char c) {
+        length++;
+        if (prefix.length() < prefixLength) {
+            prefix.append(c);
+        }
+        evaluation.accept(c);
+    }
+}
@@ -0,0 +1,47 @@
+package com.algaposts.post.infrastructure.cache;
+
+import com.algaposts.post.api.dto.PostOutput;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String POSTS_CACHE = "posts";
+
+    private static final int ENTRY_OVERHEAD = 64;
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${post.cache.max-weight:20000000}") long maxWeight,
+            @Value("${post.cache.expire-after-write-ms:600000}") long expireAfterWriteMs) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(POSTS_CACHE);
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher(CacheConfig::weigh)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+                .recordStats());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    static int weigh(Object key, Object value) {
+        if (value instanceof PostOutput post) {
+            return ENTRY_OVERHEAD + length(post.getBody()) + length(post.getTitle()) + length(post.getAuthor());
+        }
+        return ENTRY_OVERHEAD;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
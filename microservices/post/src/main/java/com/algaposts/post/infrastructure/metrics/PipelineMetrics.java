@@ -0,0 +1,51 @@
+package com.algaposts.post.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.amqp.core.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.algaposts.post.infrastructure.rabbitmq.RabbitMQConfig.POST_CREATED_AT_HEADER;
+
+@Component
+public class PipelineMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer eventPublish;
+    private final Timer pipelineLatency;
+
+    public PipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.eventPublish = Timer.builder("post.event.publish")
+                .description("Tempo de publicação dos eventos post.created no broker")
+                .register(meterRegistry);
+        this.pipelineLatency = Timer.builder("post.pipeline.latency")
+                .description("Tempo entre a criação do post e a aplicação do resultado do processamento")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public Timer eventPublish() {
+        return eventPublish;
+    }
+
+    public Timer resultApply(String mode) {
+        return Timer.builder("post.result.apply")
+                .description("Tempo de aplicação dos resultados do processamento no banco")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+
+    public void recordPipelineLatency(Long postCreatedAt) {
+        if (postCreatedAt != null) {
+            pipelineLatency.record(Math.max(0, System.currentTimeMillis() - postCreatedAt), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public static Long postCreatedAt(Message message) {
+        Object createdAt = message.getMessageProperties().getHeader(POST_CREATED_AT_HEADER);
+        return createdAt instanceof Number number ? number.longValue() : null;
+    }
+}
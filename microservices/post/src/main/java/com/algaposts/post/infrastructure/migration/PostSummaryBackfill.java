@@ -0,0 +1,53 @@
+package com.algaposts.post.infrastructure.migration;
+
+import com.algaposts.post.domain.repository.PostBodyPrefixView;
+import com.algaposts.post.domain.repository.PostRepository;
+import com.algaposts.post.mapper.PostMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.summary-backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class PostSummaryBackfill implements ApplicationRunner {
+
+    private final PostRepository postRepository;
+    private final PostMapper postMapper;
+
+    @Value("${post.summary-backfill.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int total = 0;
+        List<PostBodyPrefixView> posts;
+        do {
+            posts = postRepository.findWithoutSummary(Limit.of(batchSize));
+            if (posts.isEmpty()) {
+                break;
+            }
+            Map<UUID, String> summaries = new LinkedHashMap<>();
+            for (PostBodyPrefixView post : posts) {
+                summaries.put(post.getId(), postMapper.summarize(post.getBodyPrefix()));
+            }
+            postRepository.updateSummaries(summaries);
+            total += posts.size();
+        } while (posts.size() == batchSize);
+
+        if (total > 0) {
+            log.info("Resumo preenchido para {} posts existentes", total);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.algaposts.post.infrastructure.rabbitmq;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.support.postprocessor.GZipPostProcessor;
+
+@RequiredArgsConstructor
+public class CompressingMessagePostProcessor implements MessagePostProcessor {
+
+    private final GZipPostProcessor gZipPostProcessor = new GZipPostProcessor();
+    private final int thresholdBytes;
+
+    @Override
+    public Message postProcessMessage(Message message) throws AmqpException {
+        if (message.getBody().length <= thresholdBytes) {
+            return message;
+        }
+        return gZipPostProcessor.postProcessMessage(message);
+    }
+}
@@ -2,6 +2,10 @@ package com.algaposts.post.infrastructure.rabbitmq;
 
 import com.algaposts.post.domain.model.Post;
 
+import java.util.List;
+
 public interface EventPublisher {
     void publishPostCreated(Post post);
-}
\ No newline at end of file
+
+    void publishPostsCreated(List<Post> posts);
+}
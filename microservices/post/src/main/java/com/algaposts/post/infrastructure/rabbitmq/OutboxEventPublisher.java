@@ -0,0 +1,67 @@
+package com.algaposts.post.infrastructure.rabbitmq;
+
+import com.algaposts.post.api.dto.TextProcessorData;
+import com.algaposts.post.domain.model.OutboxEvent;
+import com.algaposts.post.domain.model.Post;
+import com.algaposts.post.domain.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static com.algaposts.post.infrastructure.rabbitmq.RabbitMQConfig.EXCHANGE_POST_PROCESS;
+import static com.algaposts.post.infrastructure.rabbitmq.RabbitMQConfig.ROUTING_KEY_POST_CREATED;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxEventPublisher implements EventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishPostCreated(Post post) {
+        log.info("Registrando evento de post criado na outbox: {}", post.getId());
+        outboxEventRepository.save(toOutboxEvent(post, OffsetDateTime.now()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishPostsCreated(List<Post> posts) {
+        log.info("Registrando {} eventos de post criado na outbox", posts.size());
+        var createdAt = OffsetDateTime.now();
+        outboxEventRepository.saveAll(posts.stream().map(post -> toOutboxEvent(post, createdAt)).toList());
+    }
+
+    private OutboxEvent toOutboxEvent(Post post, OffsetDateTime createdAt) {
+        var payload = TextProcessorData.builder()
+                .postId(post.getId())
+                .postBody(post.getBody())
+                .build();
+        return OutboxEvent.builder()
+                .aggregateId(post.getId())
+                .exchange(EXCHANGE_POST_PROCESS)
+                .routingKey(ROUTING_KEY_POST_CREATED)
+                .payload(toJson(payload))
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar evento da outbox", e);
+        }
+    }
+}
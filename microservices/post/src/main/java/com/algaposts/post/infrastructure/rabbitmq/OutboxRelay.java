@@ -0,0 +1,79 @@
+package com.algaposts.post.infrastructure.rabbitmq;
+
+import com.algaposts.post.domain.model.OutboxEvent;
+import com.algaposts.post.domain.repository.OutboxEventRepository;
+import com.algaposts.post.infrastructure.metrics.PipelineMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final PipelineMetrics pipelineMetrics;
+
+    @Value("${post.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${post.outbox.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    @Scheduled(fixedDelayString = "${post.outbox.relay-interval-ms:500}")
+    public void relay() {
+        List<OutboxEvent> events;
+        do {
+            events = outboxEventRepository.findByOrderByCreatedAtAsc(Limit.of(batchSize));
+            if (events.isEmpty()) {
+                return;
+            }
+            try {
+                publish(events);
+            } catch (AmqpException e) {
+                log.warn("Falha ao publicar {} eventos da outbox, nova tentativa no próximo ciclo", events.size(), e);
+                return;
+            }
+            outboxEventRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getId).toList());
+            log.info("{} eventos da outbox publicados", events.size());
+        } while (events.size() == batchSize);
+    }
+
+    private void publish(List<OutboxEvent> events) {
+        pipelineMetrics.eventPublish().record(() -> rabbitTemplate.invoke(operations -> {
+            for (OutboxEvent event : events) {
+                operations.send(event.getExchange(), event.getRoutingKey(), toMessage(event));
+            }
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        }));
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setMessageId(event.getId().toString())
+                .setTimestamp(new Date())
+                .setHeader(RabbitMQConfig.POST_CREATED_AT_HEADER, event.getCreatedAt().toInstant().toEpochMilli())
+                .build();
+    }
+}
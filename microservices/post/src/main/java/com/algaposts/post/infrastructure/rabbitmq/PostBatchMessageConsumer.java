@@ -0,0 +1,110 @@
+package com.algaposts.post.infrastructure.rabbitmq;
+
+import com.algaposts.post.api.dto.TextProcessorResultData;
+import com.algaposts.post.domain.service.PostService;
+import com.algaposts.post.infrastructure.metrics.PipelineMetrics;
+import com.rabbitmq.client.Channel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static com.algaposts.post.infrastructure.rabbitmq.RabbitMQConfig.BATCH_LISTENER_CONTAINER_FACTORY;
+import static com.algaposts.post.infrastructure.rabbitmq.RabbitMQConfig.QUEUE_POST_SERVICE;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.result-batch.enabled", havingValue = "true")
+public class PostBatchMessageConsumer {
+
+    private final PostService postService;
+    private final MessageConverter messageConverter;
+    private final MessageRecoverer messageRecoverer;
+    private final PipelineMetrics pipelineMetrics;
+
+    @RabbitListener(queues = QUEUE_POST_SERVICE, containerFactory = BATCH_LISTENER_CONTAINER_FACTORY)
+    public void receiveMessages(List<Message> messages, Channel channel) throws IOException {
+        log.info("Recebendo lote de {} mensagens", messages.size());
+
+        List<TextProcessorResultData> processedData = new ArrayList<>(messages.size());
+        List<Message> convertedMessages = new ArrayList<>(messages.size());
+
+        for (Message message : messages) {
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            try {
+                processedData.add(toTextProcessorResultData(message));
+                convertedMessages.add(message);
+            } catch (Exception e) {
+                log.error("Mensagem inválida no lote (delivery tag {}), enviando para a DLQ", deliveryTag, e);
+                channel.basicNack(deliveryTag, false, false);
+            }
+        }
+
+        if (processedData.isEmpty()) {
+            return;
+        }
+
+        List<UUID> updated;
+        try {
+            updated = pipelineMetrics.resultApply("batch").recordCallable(() -> postService.updatePostsWithProcessedData(processedData));
+        } catch (Exception e) {
+            log.warn("Falha ao aplicar lote de {} resultados, aplicando individualmente", processedData.size(), e);
+            applyIndividually(processedData, convertedMessages, channel);
+            return;
+        }
+
+        channel.basicAck(convertedMessages.getLast().getMessageProperties().getDeliveryTag(), true);
+        var updatedIds = new HashSet<>(updated);
+        for (int i = 0; i < processedData.size(); i++) {
+            if (updatedIds.contains(processedData.get(i).getPostId())) {
+                pipelineMetrics.recordPipelineLatency(PipelineMetrics.postCreatedAt(convertedMessages.get(i)));
+            }
+        }
+    }
+
+    private void applyIndividually(List<TextProcessorResultData> processedData, List<Message> messages,
+                                   Channel channel) throws IOException {
+        for (int i = 0; i < processedData.size(); i++) {
+            long deliveryTag = messages.get(i).getMessageProperties().getDeliveryTag();
+            try {
+                if (postService.updatePostWithProcessedData(processedData.get(i))) {
+                    pipelineMetrics.recordPipelineLatency(PipelineMetrics.postCreatedAt(messages.get(i)));
+                }
+                channel.basicAck(deliveryTag, false);
+            } catch (Exception e) {
+                log.error("Erro ao aplicar resultado (delivery tag {})", deliveryTag, e);
+                retryOrReject(messages.get(i), e, channel);
+            }
+        }
+    }
+
+    private void retryOrReject(Message message, Exception cause, Channel channel) throws IOException {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        try {
+            messageRecoverer.recover(message, cause);
+            channel.basicAck(deliveryTag, false);
+        } catch (AmqpRejectAndDontRequeueException e) {
+            channel.basicNack(deliveryTag, false, false);
+        } catch (Exception e) {
+            log.error("Falha ao agendar nova tentativa (delivery tag {}), devolvendo para a fila", deliveryTag, e);
+            channel.basicNack(deliveryTag, false, true);
+        }
+    }
+
+    private TextProcessorResultData toTextProcessorResultData(Message message) {
+        message.getMessageProperties().setInferredArgumentType(TextProcessorResultData.class);
+        return (TextProcessorResultData) messageConverter.fromMessage(message);
+    }
+}
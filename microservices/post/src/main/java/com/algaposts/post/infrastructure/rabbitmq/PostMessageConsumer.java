@@ -1,25 +1,36 @@
 package com.algaposts.post.infrastructure.rabbitmq;
 
-import com.algaposts.post.api.dto.TextProcessorData;
+import com.algaposts.post.api.dto.TextProcessorResultData;
 import com.algaposts.post.domain.service.PostService;
+import com.algaposts.post.infrastructure.metrics.PipelineMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import static com.algaposts.post.infrastructure.rabbitmq.RabbitMQConfig.POST_CREATED_AT_HEADER;
 import static com.algaposts.post.infrastructure.rabbitmq.RabbitMQConfig.QUEUE_POST_SERVICE;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.result-batch.enabled", havingValue = "false", matchIfMissing = true)
 public class PostMessageConsumer {
 
     private final PostService postService;
+    private final PipelineMetrics pipelineMetrics;
 
     @RabbitListener(queues = QUEUE_POST_SERVICE)
-    public void receiveMessage(@Payload TextProcessorData textProcessorData) {
-        log.info("Recebendo mensagem: {}", textProcessorData);
-        postService.updatePostWithProcessedData(textProcessorData);
+    public void receiveMessage(@Payload TextProcessorResultData textProcessorResultData,
+                               @Header(name = POST_CREATED_AT_HEADER, required = false) Long postCreatedAt) {
+        log.info("Recebendo mensagem: {}", textProcessorResultData);
+        Boolean updated = pipelineMetrics.resultApply("single")
+                .record(() -> postService.updatePostWithProcessedData(textProcessorResultData));
+        if (Boolean.TRUE.equals(updated)) {
+            pipelineMetrics.recordPipelineLatency(postCreatedAt);
+        }
     }
 }
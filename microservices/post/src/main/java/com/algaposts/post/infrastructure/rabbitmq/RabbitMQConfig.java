@@ -1,12 +1,28 @@
 package com.algaposts.post.infrastructure.rabbitmq;
 
+import com.algaposts.shared.messaging.AdaptiveConcurrencyController;
+import com.algaposts.shared.messaging.AdaptiveConcurrencySettings;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.RabbitTemplateCustomizer;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 public class RabbitMQConfig {
@@ -17,12 +33,52 @@ public class RabbitMQConfig {
     public static final String EXCHANGE_POST_PROCESS = "post-processing-exchange.v1.e";
     public static final String DLQ_TEXT_PROCESS = TEXT_PROCESS + ".dlq";
     public static final String DLX_POST_PROCESS = "post-processing-dlx";
+    public static final String EXCHANGE_POST_SERVICE_RETRY = "post-service.retry.v1.e";
+    public static final String RETRY_QUEUE_PREFIX = "post-service.retry.v1.";
+    public static final String ROUTING_KEY_POST_CREATED = "post.created";
+    public static final String ROUTING_KEY_POST_RESULTED = "post.resulted";
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchListenerContainerFactory";
+    public static final String POST_CREATED_AT_HEADER = "x-post-created-at";
 
     @Bean
     public Jackson2JsonMessageConverter jackson2JsonMessageConverter(ObjectMapper objectMapper) {
         return new Jackson2JsonMessageConverter(objectMapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "post.messaging.compression.enabled", havingValue = "true")
+    public RabbitTemplateCustomizer compressingRabbitTemplateCustomizer(
+            @Value("${post.messaging.compression.threshold-bytes:65536}") int thresholdBytes) {
+        return rabbitTemplate -> rabbitTemplate.addBeforePublishPostProcessors(
+                new CompressingMessagePostProcessor(thresholdBytes));
+    }
+
+    @Bean
+    public MessageRecoverer messageRecoverer(RabbitTemplate rabbitTemplate,
+                                             @Value("${post.retry.delays-ms:10000,20000}") long[] delaysMs,
+                                             @Value("${post.messaging.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        return new RetryQueueMessageRecoverer(rabbitTemplate, EXCHANGE_POST_SERVICE_RETRY, delaysMs, confirmTimeoutMs);
+    }
+
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    @ConditionalOnProperty(name = "post.result-batch.enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${post.result-batch.size:200}") int batchSize,
+            @Value("${post.result-batch.receive-timeout-ms:200}") long receiveTimeoutMs) {
+        var factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setBatchReceiveTimeout(receiveTimeoutMs);
+        factory.setPrefetchCount(batchSize);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setAdviceChain();
+        return factory;
+    }
+
     @Bean
     public RabbitAdmin rabbitAdmin(ConnectionFactory connectionFactory) {
         return new RabbitAdmin(connectionFactory);
@@ -61,16 +117,44 @@ public class RabbitMQConfig {
 
     @Bean
     public Binding bindingTextProcessor() {
-        return BindingBuilder.bind(queueTextProcessor()).to(exchange()).with("post.created");
+        return BindingBuilder.bind(queueTextProcessor()).to(exchange()).with(ROUTING_KEY_POST_CREATED);
     }
 
     @Bean
     public Binding bindingPostService() {
-        return BindingBuilder.bind(queuePostService()).to(exchange()).with("post.resulted");
+        return BindingBuilder.bind(queuePostService()).to(exchange()).with(ROUTING_KEY_POST_RESULTED);
     }
 
     @Bean
     public Binding dlqBinding() {
         return BindingBuilder.bind(deadLetterQueue()).to(deadLetterExchange()).with("dlq");
     }
+
+    @Bean
+    public Declarables retryQueues(@Value("${post.retry.delays-ms:10000,20000}") long[] delaysMs) {
+        HeadersExchange retryExchange = ExchangeBuilder.headersExchange(EXCHANGE_POST_SERVICE_RETRY).durable(true).build();
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(retryExchange);
+        for (long delayMs : delaysMs) {
+            Queue retryQueue = QueueBuilder.durable(RETRY_QUEUE_PREFIX + delayMs + "ms.q")
+                    .ttl((int) delayMs)
+                    .deadLetterExchange("")
+                    .deadLetterRoutingKey(QUEUE_POST_SERVICE)
+                    .build();
+            declarables.add(retryQueue);
+            declarables.add(BindingBuilder.bind(retryQueue).to(retryExchange)
+                    .where(RetryQueueMessageRecoverer.RETRY_DELAY_HEADER).matches(String.valueOf(delayMs)));
+        }
+        return new Declarables(declarables);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "post.adaptive-concurrency.enabled", havingValue = "true")
+    public AdaptiveConcurrencyController adaptiveConcurrencyController(
+            RabbitListenerEndpointRegistry listenerRegistry, AmqpAdmin amqpAdmin, MeterRegistry meterRegistry,
+            Environment environment, @Value("${spring.rabbitmq.listener.simple.prefetch:250}") int initialPrefetch) {
+        AdaptiveConcurrencySettings settings = Binder.get(environment)
+                .bindOrCreate("post.adaptive-concurrency", AdaptiveConcurrencySettings.class);
+        return new AdaptiveConcurrencyController(listenerRegistry, amqpAdmin, meterRegistry, settings, initialPrefetch);
+    }
 }
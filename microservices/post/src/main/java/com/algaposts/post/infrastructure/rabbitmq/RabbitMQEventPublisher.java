@@ -2,26 +2,59 @@ package com.algaposts.post.infrastructure.rabbitmq;
 
 import com.algaposts.post.api.dto.TextProcessorData;
 import com.algaposts.post.domain.model.Post;
+import com.algaposts.post.infrastructure.metrics.PipelineMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.Date;
+import java.util.List;
+
 import static com.algaposts.post.infrastructure.rabbitmq.RabbitMQConfig.EXCHANGE_POST_PROCESS;
+import static com.algaposts.post.infrastructure.rabbitmq.RabbitMQConfig.POST_CREATED_AT_HEADER;
+import static com.algaposts.post.infrastructure.rabbitmq.RabbitMQConfig.ROUTING_KEY_POST_CREATED;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.outbox.enabled", havingValue = "false")
 public class RabbitMQEventPublisher implements EventPublisher {
     
     private final RabbitMQMessagePublisher rabbitMQMessagePublisher;
+    private final PipelineMetrics pipelineMetrics;
     
     @Override
     public void publishPostCreated(Post post) {
         log.info("Publicando evento de post criado: {}", post);
-        Object payload = TextProcessorData.builder()
+        Object payload = toPayload(post);
+        MessagePostProcessor createdAt = createdAt(System.currentTimeMillis());
+        pipelineMetrics.eventPublish().record(() ->
+                rabbitMQMessagePublisher.sendMessage(EXCHANGE_POST_PROCESS, ROUTING_KEY_POST_CREATED, payload, createdAt));
+    }
+
+    @Override
+    public void publishPostsCreated(List<Post> posts) {
+        log.info("Publicando {} eventos de post criado", posts.size());
+        List<Object> payloads = posts.stream().<Object>map(this::toPayload).toList();
+        MessagePostProcessor createdAt = createdAt(System.currentTimeMillis());
+        pipelineMetrics.eventPublish().record(() ->
+                rabbitMQMessagePublisher.sendMessages(EXCHANGE_POST_PROCESS, ROUTING_KEY_POST_CREATED, payloads, createdAt));
+    }
+
+    private TextProcessorData toPayload(Post post) {
+        return TextProcessorData.builder()
                 .postId(post.getId())
                 .postBody(post.getBody())
                 .build();
-        rabbitMQMessagePublisher.sendMessage(EXCHANGE_POST_PROCESS, "post.created", payload);
+    }
+
+    private MessagePostProcessor createdAt(long createdAt) {
+        return message -> {
+            message.getMessageProperties().setTimestamp(new Date(createdAt));
+            message.getMessageProperties().setHeader(POST_CREATED_AT_HEADER, createdAt);
+            return message;
+        };
     }
 }
\ No newline at end of file
@@ -2,9 +2,13 @@ package com.algaposts.post.infrastructure.rabbitmq;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.MessagePostProcessor;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -12,8 +16,27 @@ public class RabbitMQMessagePublisher {
 
     private final RabbitTemplate rabbitTemplate;
 
+    @Value("${post.messaging.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
     public void sendMessage(String exchange, String routingKey, Object message) {
         log.info("Enviando mensagem para exchange: {} com routing key: {} - mensagem: {}", exchange, routingKey, message);
         rabbitTemplate.convertAndSend(exchange, routingKey, message);
     }
+
+    public void sendMessage(String exchange, String routingKey, Object message, MessagePostProcessor postProcessor) {
+        log.info("Enviando mensagem para exchange: {} com routing key: {} - mensagem: {}", exchange, routingKey, message);
+        rabbitTemplate.convertAndSend(exchange, routingKey, message, postProcessor);
+    }
+
+    public void sendMessages(String exchange, String routingKey, List<Object> messages, MessagePostProcessor postProcessor) {
+        log.info("Enviando {} mensagens para exchange: {} com routing key: {}", messages.size(), exchange, routingKey);
+        rabbitTemplate.invoke(operations -> {
+            for (Object message : messages) {
+                operations.convertAndSend(exchange, routingKey, message, postProcessor);
+            }
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+    }
 }
@@ -0,0 +1,49 @@
+package com.algaposts.post.infrastructure.rabbitmq;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RetryQueueMessageRecoverer implements MessageRecoverer {
+
+    public static final String RETRY_ATTEMPT_HEADER = "x-retry-attempt";
+    public static final String RETRY_DELAY_HEADER = "x-retry-delay-ms";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String retryExchange;
+    private final long[] delaysMs;
+    private final long confirmTimeoutMs;
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        MessageProperties properties = message.getMessageProperties();
+        int attempt = attempt(properties);
+        if (attempt >= delaysMs.length) {
+            log.error("Tentativas esgotadas ({}) para mensagem da fila {}, enviando para a DLQ",
+                    attempt + 1, properties.getConsumerQueue());
+            throw new AmqpRejectAndDontRequeueException("Tentativas esgotadas", cause);
+        }
+
+        long delayMs = delaysMs[attempt];
+        properties.setHeader(RETRY_ATTEMPT_HEADER, attempt + 1);
+        properties.setHeader(RETRY_DELAY_HEADER, String.valueOf(delayMs));
+        log.warn("Falha ao processar mensagem da fila {}, nova tentativa {} em {} ms",
+                properties.getConsumerQueue(), attempt + 1, delayMs);
+        rabbitTemplate.invoke(operations -> {
+            operations.send(retryExchange, properties.getReceivedRoutingKey(), message);
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+    }
+
+    private int attempt(MessageProperties properties) {
+        Object attempt = properties.getHeader(RETRY_ATTEMPT_HEADER);
+        return attempt instanceof Number number ? number.intValue() : 0;
+    }
+}
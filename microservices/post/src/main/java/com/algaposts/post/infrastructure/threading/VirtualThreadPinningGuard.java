@@ -0,0 +1,38 @@
+package com.algaposts.post.infrastructure.threading;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningGuard implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource hikari) {
+            limitPoolSize(hikari, carrierThreads());
+        }
+        return bean;
+    }
+
+    static void limitPoolSize(HikariDataSource hikari, int carrierThreads) {
+        if (hikari.getMaximumPoolSize() <= carrierThreads) {
+            return;
+        }
+        log.warn("Pool JDBC reduzido de {} para {} conexões, o número de carrier threads: acessos ao H2 em blocos " +
+                "synchronized fixam a carrier thread", hikari.getMaximumPoolSize(), carrierThreads);
+        hikari.setMaximumPoolSize(carrierThreads);
+        if (hikari.getMinimumIdle() > carrierThreads) {
+            hikari.setMinimumIdle(carrierThreads);
+        }
+    }
+
+    static int carrierThreads() {
+        return Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+    }
+}
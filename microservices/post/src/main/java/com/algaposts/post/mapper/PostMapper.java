@@ -4,20 +4,22 @@ import com.algaposts.post.api.dto.PostInput;
 import com.algaposts.post.api.dto.PostOutput;
 import com.algaposts.post.api.dto.PostSummaryOutput;
 import com.algaposts.post.domain.model.Post;
+import com.algaposts.post.domain.model.UuidV7;
+import com.algaposts.post.domain.repository.PostSummaryView;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import java.util.UUID;
 
 @Component
 public class PostMapper {
     
     public Post toEntity(PostInput postInput) {
         return Post.builder()
-                .id(UUID.randomUUID())
+                .id(UuidV7.generate())
                 .title(postInput.getTitle())
                 .body(postInput.getBody())
                 .author(postInput.getAuthor())
+                .summary(summarize(postInput.getBody()))
                 .build();
     }
     
@@ -29,11 +31,15 @@ public class PostMapper {
                 .author(post.getAuthor())
                 .wordCount(post.getWordCount())
                 .calculatedValue(post.getCalculatedValue())
+                .characterCount(post.getCharacterCount())
+                .sentenceCount(post.getSentenceCount())
+                .uniqueWordCount(post.getUniqueWordCount())
+                .readingTimeSeconds(post.getReadingTimeSeconds())
                 .build();
     }
 
     public PostSummaryOutput toSummaryOutput(Post post) {
-        String summary = extractFirstThreeLines(post.getBody());
+        String summary = post.getSummary() != null ? post.getSummary() : summarize(post.getBody());
         return PostSummaryOutput.builder()
                 .id(post.getId())
                 .title(post.getTitle())
@@ -42,7 +48,19 @@ public class PostMapper {
                 .build();
     }
 
-    private String extractFirstThreeLines(String body) {
+    public PostSummaryOutput toSummaryOutput(PostSummaryView postSummaryView) {
+        String summary = postSummaryView.getSummary() != null
+                ? postSummaryView.getSummary()
+                : summarize(postSummaryView.getBodyPrefix());
+        return PostSummaryOutput.builder()
+                .id(postSummaryView.getId())
+                .title(postSummaryView.getTitle())
+                .summary(summary)
+                .author(postSummaryView.getAuthor())
+                .build();
+    }
+
+    public String summarize(String body) {
         if (!StringUtils.hasText(body)) {
             return "";
         }
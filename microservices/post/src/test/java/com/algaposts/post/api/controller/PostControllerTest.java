@@ -1,8 +1,13 @@
 package com.algaposts.post.api.controller;
 
+import com.algaposts.post.api.dto.PostBatchItemOutput;
+import com.algaposts.post.api.dto.PostBatchOutput;
+import com.algaposts.post.api.dto.PostCursorPageOutput;
 import com.algaposts.post.api.dto.PostInput;
 import com.algaposts.post.api.dto.PostOutput;
 import com.algaposts.post.api.dto.PostSummaryOutput;
+import com.algaposts.post.domain.model.Post;
+import com.algaposts.post.domain.repository.PostExportField;
 import com.algaposts.post.domain.service.PostService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,13 +21,22 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.BufferedReader;
+import java.io.Reader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -80,6 +94,170 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.calculatedValue").value(10.50));
     }
 
+    @Test
+    void createPostFromStream_DeveRepassarBodyComoStream() throws Exception {
+
+        PostOutput streamedOutput = PostOutput.builder()
+                .id(postId)
+                .title("Título do Post")
+                .author("Autor")
+                .wordCount(3)
+                .calculatedValue(new BigDecimal("0.30"))
+                .build();
+        when(postService.processPostStream(eq("Título do Post"), eq("Autor"), any(Reader.class))).thenAnswer(invocation -> {
+            assertEquals("Conteúdo do pão", new BufferedReader(invocation.<Reader>getArgument(2)).readLine());
+            return streamedOutput;
+        });
+
+        mockMvc.perform(post("/api/posts/stream")
+                        .param("title", "Título do Post")
+                        .param("author", "Autor")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("Conteúdo do pão".getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(postId.toString()))
+                .andExpect(jsonPath("$.body").doesNotExist())
+                .andExpect(jsonPath("$.wordCount").value(3));
+    }
+
+    @Test
+    void createPostFromStream_DeveRetornar415ParaConteudoNaoTexto() throws Exception {
+
+        mockMvc.perform(post("/api/posts/stream")
+                        .param("title", "Título do Post")
+                        .param("author", "Autor")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    void createPosts_DeveRetornarResultadoPorItem() throws Exception {
+
+        UUID otherId = UUID.randomUUID();
+        when(postService.processPosts(any())).thenReturn(PostBatchOutput.builder()
+                .created(2)
+                .items(List.of(PostBatchItemOutput.builder().index(0).id(postId).build(),
+                        PostBatchItemOutput.builder().index(1).id(otherId).build()))
+                .build());
+
+        mockMvc.perform(post("/api/posts/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(postInput, postInput))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(postId.toString()))
+                .andExpect(jsonPath("$.items[1].id").value(otherId.toString()))
+                .andExpect(jsonPath("$.items[1].errors").doesNotExist());
+    }
+
+    @Test
+    void createPosts_DeveRetornar400QuandoLoteForRejeitado() throws Exception {
+
+        when(postService.processPosts(any())).thenReturn(PostBatchOutput.builder()
+                .created(0)
+                .items(List.of(PostBatchItemOutput.builder().index(1).errors(List.of("body: must not be blank")).build()))
+                .build());
+
+        mockMvc.perform(post("/api/posts/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(postInput, postInput))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.created").value(0))
+                .andExpect(jsonPath("$.items[0].index").value(1))
+                .andExpect(jsonPath("$.items[0].errors[0]").value("body: must not be blank"))
+                .andExpect(jsonPath("$.items[0].id").doesNotExist());
+    }
+
+    @Test
+    void createPostsFromNdjson_DeveLerUmPostPorLinha() throws Exception {
+
+        when(postService.getBatchMaxSize()).thenReturn(10);
+        when(postService.processPosts(any())).thenAnswer(invocation -> {
+            List<PostInput> inputs = invocation.getArgument(0);
+            assertEquals(List.of("Primeiro", "Segundo"), inputs.stream().map(PostInput::getTitle).toList());
+            return PostBatchOutput.builder().created(2).items(List.of()).build();
+        });
+
+        mockMvc.perform(post("/api/posts/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("""
+                                {"title":"Primeiro","body":"Um","author":"Autor"}
+                                {"title":"Segundo","body":"Dois","author":"Autor"}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(2));
+    }
+
+    @Test
+    void createPostsFromNdjson_DevePararDeLerAoUltrapassarTamanhoMaximo() throws Exception {
+
+        when(postService.getBatchMaxSize()).thenReturn(1);
+        when(postService.processPosts(any())).thenAnswer(invocation -> {
+            assertEquals(2, invocation.<List<PostInput>>getArgument(0).size());
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE);
+        });
+
+        mockMvc.perform(post("/api/posts/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\":\"A\"}\n{\"title\":\"B\"}\n{\"title\":\"C\"}\n"))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void createPostsFromNdjson_DeveRetornar400ParaLinhaInvalida() throws Exception {
+
+        when(postService.getBatchMaxSize()).thenReturn(10);
+
+        mockMvc.perform(post("/api/posts/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\":\"A\"}\n{invalido\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportPosts_DeveEscreverUmPostPorLinhaComCamposSelecionados() throws Exception {
+
+        UUID otherId = UUID.randomUUID();
+        doAnswer(invocation -> {
+            Consumer<Post> consumer = invocation.getArgument(2);
+            consumer.accept(Post.builder().id(postId).title("Primeiro").build());
+            consumer.accept(Post.builder().id(otherId).title("Segundo").build());
+            return null;
+        }).when(postService).exportPosts(eq(postId), eq(EnumSet.of(PostExportField.ID, PostExportField.TITLE)), any());
+
+        MvcResult result = mockMvc.perform(get("/api/posts/export")
+                        .param("fields", "title")
+                        .param("after", postId.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("""
+                        {"id":"%s","title":"Primeiro"}
+                        {"id":"%s","title":"Segundo"}
+                        """.formatted(postId, otherId)));
+    }
+
+    @Test
+    void exportPosts_DeveAplicarTimeoutConfiguradoDaExportacao() throws Exception {
+
+        MvcResult result = mockMvc.perform(get("/api/posts/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(3600000L, result.getRequest().getAsyncContext().getTimeout());
+    }
+
+    @Test
+    void exportPosts_DeveRetornar400ParaCampoDesconhecido() throws Exception {
+
+        mockMvc.perform(get("/api/posts/export").param("fields", "title,senha"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void findPostById_DeveRetornarPostExistente() throws Exception {
 
@@ -236,4 +414,30 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.number").value(2))
                 .andExpect(jsonPath("$.size").value(20));
     }
+
+    @Test
+    void scrollPosts_DeveRetornarConteudoEProximoCursor() throws Exception {
+
+        PostCursorPageOutput cursorPage = PostCursorPageOutput.builder()
+                .content(List.of(PostSummaryOutput.builder()
+                        .id(postId)
+                        .title("Título do Post")
+                        .summary("Conteúdo do post")
+                        .author("Autor")
+                        .build()))
+                .size(1)
+                .next("cursor-seguinte")
+                .build();
+
+        when(postService.scrollPosts("cursor-atual", 1)).thenReturn(cursorPage);
+
+        mockMvc.perform(get("/api/posts/scroll")
+                        .param("cursor", "cursor-atual")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(postId.toString()))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.next").value("cursor-seguinte"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
 }
@@ -61,7 +61,7 @@ class PostTest {
         Integer wordCount = 5;
         BigDecimal calculatedValue = BigDecimal.valueOf(25.75);
 
-        Post post = new Post(id, title, body, author, wordCount, calculatedValue);
+        Post post = new Post(id, title, body, author, wordCount, calculatedValue, body, null, null, null, null);
 
         assertNotNull(post);
         assertEquals(id, post.getId());
@@ -70,6 +70,7 @@ class PostTest {
         assertEquals(author, post.getAuthor());
         assertEquals(wordCount, post.getWordCount());
         assertEquals(calculatedValue, post.getCalculatedValue());
+        assertEquals(body, post.getSummary());
     }
 
     @Test
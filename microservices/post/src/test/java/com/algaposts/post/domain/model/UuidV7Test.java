@@ -0,0 +1,48 @@
+package com.algaposts.post.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void generate_DeveGerarUuidVersao7ComTimestampAtual() {
+
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(UuidV7.timestamp(uuid) >= before);
+        assertTrue(UuidV7.timestamp(uuid) <= after + 1);
+    }
+
+    @Test
+    void generate_DeveGerarIdsCrescentesMesmoNoMesmoMilissegundo() {
+
+        UUID previous = UuidV7.generate();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = UuidV7.generate();
+            assertTrue(compareUnsigned(previous, next) < 0, previous + " >= " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    void generate_DeveManterOrdemQuandoRelogioVoltar() {
+
+        UUID first = UuidV7.generate(System.currentTimeMillis());
+        UUID second = UuidV7.generate(System.currentTimeMillis() - 60_000);
+
+        assertTrue(compareUnsigned(first, second) < 0);
+    }
+
+    private int compareUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
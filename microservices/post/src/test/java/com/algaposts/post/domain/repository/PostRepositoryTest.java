@@ -0,0 +1,265 @@
+package com.algaposts.post.domain.repository;
+
+import com.algaposts.post.api.dto.TextProcessorResultData;
+import com.algaposts.post.domain.model.Post;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class PostRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void updateProcessedData_DeveAtualizarSomenteContagemEValor() {
+
+        Post first = postRepository.save(post("Primeiro"));
+        Post second = postRepository.save(post("Segundo"));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UUID> updated = postRepository.updateProcessedData(List.of(
+                TextProcessorResultData.builder().postId(first.getId()).wordCount(3).calculatedValue(new BigDecimal("0.30"))
+                        .characterCount(16).sentenceCount(1).uniqueWordCount(3).readingTimeSeconds(1).build(),
+                TextProcessorResultData.builder().postId(second.getId()).wordCount(8).calculatedValue(new BigDecimal("0.80")).build()));
+
+        assertEquals(List.of(first.getId(), second.getId()), updated);
+
+        Post updatedFirst = postRepository.findById(first.getId()).orElseThrow();
+        Post updatedSecond = postRepository.findById(second.getId()).orElseThrow();
+        assertEquals(3, updatedFirst.getWordCount());
+        assertEquals(0, new BigDecimal("0.30").compareTo(updatedFirst.getCalculatedValue()));
+        assertEquals("Primeiro", updatedFirst.getTitle());
+        assertEquals(16, updatedFirst.getCharacterCount());
+        assertEquals(3, updatedFirst.getUniqueWordCount());
+        assertEquals(8, updatedSecond.getWordCount());
+        assertNull(updatedSecond.getReadingTimeSeconds());
+        assertEquals(0, new BigDecimal("0.80").compareTo(updatedSecond.getCalculatedValue()));
+    }
+
+    @Test
+    void updateProcessedData_DeveIgnorarPostsJaProcessados() {
+
+        Post processed = post("Processado");
+        processed.setWordCount(3);
+        processed.setCalculatedValue(new BigDecimal("0.30"));
+        postRepository.save(processed);
+        Post pending = postRepository.save(post("Pendente"));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UUID> updated = postRepository.updateProcessedData(List.of(
+                TextProcessorResultData.builder().postId(processed.getId()).wordCount(9).calculatedValue(new BigDecimal("0.90")).build(),
+                TextProcessorResultData.builder().postId(pending.getId()).wordCount(8).calculatedValue(new BigDecimal("0.80")).build()));
+
+        assertEquals(List.of(pending.getId()), updated);
+        assertEquals(3, postRepository.findById(processed.getId()).orElseThrow().getWordCount());
+    }
+
+    @Test
+    void applyProcessedData_DeveAplicarResultadoApenasUmaVez() {
+
+        Post post = postRepository.save(post("Primeiro"));
+        entityManager.flush();
+        entityManager.clear();
+        TextProcessorResultData result = TextProcessorResultData.builder()
+                .postId(post.getId()).wordCount(3).calculatedValue(new BigDecimal("0.30"))
+                .characterCount(16).sentenceCount(1).uniqueWordCount(3).readingTimeSeconds(1).build();
+
+        assertTrue(postRepository.applyProcessedData(result));
+        assertFalse(postRepository.applyProcessedData(result));
+        assertFalse(postRepository.applyProcessedData(TextProcessorResultData.builder()
+                .postId(UUID.randomUUID()).wordCount(1).calculatedValue(BigDecimal.ONE).build()));
+
+        Post updated = postRepository.findById(post.getId()).orElseThrow();
+        assertEquals(3, updated.getWordCount());
+        assertEquals(0, new BigDecimal("0.30").compareTo(updated.getCalculatedValue()));
+        assertEquals(16, updated.getCharacterCount());
+        assertEquals(1, updated.getSentenceCount());
+        assertEquals(3, updated.getUniqueWordCount());
+        assertEquals(1, updated.getReadingTimeSeconds());
+    }
+
+    @Test
+    void insertWithStreamedBody_DeveGravarBodyLidoDoReaderComDadosCalculadosAposLeitura() {
+
+        UUID id = UUID.randomUUID();
+        String body = "palavra ".repeat(200_000);
+        postRepository.insertWithStreamedBody(new StringReader(body), () -> {
+            Post post = post("Stream");
+            post.setId(id);
+            post.setWordCount(200_000);
+            post.setCalculatedValue(new BigDecimal("20000.00"));
+            post.setCharacterCount(body.length());
+            post.setSummary("palavra palavra...");
+            return post;
+        });
+
+        Post post = postRepository.findById(id).orElseThrow();
+        assertEquals("Stream", post.getTitle());
+        assertEquals("Autor", post.getAuthor());
+        assertEquals(body, post.getBody());
+        assertEquals(200_000, post.getWordCount());
+        assertEquals(0, new BigDecimal("20000.00").compareTo(post.getCalculatedValue()));
+        assertEquals(body.length(), post.getCharacterCount());
+        assertNull(post.getSentenceCount());
+        assertEquals("palavra palavra...", post.getSummary());
+    }
+
+    @Test
+    void insertPosts_DeveGravarTodosOsPostsDoLote() {
+
+        Post first = post("Primeiro");
+        first.setSummary("Resumo");
+        Post second = post("Segundo");
+        second.setWordCount(3);
+        second.setCalculatedValue(new BigDecimal("0.30"));
+
+        postRepository.insertPosts(List.of(first, second));
+
+        Post savedFirst = postRepository.findById(first.getId()).orElseThrow();
+        Post savedSecond = postRepository.findById(second.getId()).orElseThrow();
+        assertEquals("Primeiro", savedFirst.getTitle());
+        assertEquals("Conteúdo do post", savedFirst.getBody());
+        assertEquals("Resumo", savedFirst.getSummary());
+        assertNull(savedFirst.getWordCount());
+        assertEquals(3, savedSecond.getWordCount());
+        assertEquals(0, new BigDecimal("0.30").compareTo(savedSecond.getCalculatedValue()));
+    }
+
+    @Test
+    void findAllSummaries_DeveRetornarApenasPrefixoDoBody() {
+
+        Post longPost = post("Longo");
+        longPost.setBody("a".repeat(10_000));
+        postRepository.save(longPost);
+        postRepository.save(post("Curto"));
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<PostSummaryView> page = postRepository.findAllSummaries(PageRequest.of(0, 10, Sort.by("title")));
+
+        assertEquals(2, page.getTotalElements());
+        PostSummaryView curto = page.getContent().get(0);
+        PostSummaryView longo = page.getContent().get(1);
+        assertEquals("Curto", curto.getTitle());
+        assertEquals("Autor", curto.getAuthor());
+        assertEquals("Conteúdo do post", curto.getBodyPrefix());
+        assertEquals(longPost.getId(), longo.getId());
+        assertEquals(PostBodyPrefixView.BODY_PREFIX_LENGTH, longo.getBodyPrefix().length());
+    }
+
+    @Test
+    void findAllSummaries_DeveUsarResumoArmazenadoSemCarregarPrefixo() {
+
+        Post post = post("Com resumo");
+        post.setSummary("Resumo armazenado");
+        postRepository.save(post);
+        entityManager.flush();
+        entityManager.clear();
+
+        PostSummaryView view = postRepository.findAllSummaries(PageRequest.of(0, 10)).getContent().get(0);
+
+        assertEquals("Resumo armazenado", view.getSummary());
+        assertNull(view.getBodyPrefix());
+    }
+
+    @Test
+    void updateSummaries_DevePreencherResumoDosPostsSemResumo() {
+
+        Post withoutSummary = postRepository.save(post("Sem resumo"));
+        Post withSummary = post("Com resumo");
+        withSummary.setSummary("Resumo");
+        postRepository.save(withSummary);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<PostBodyPrefixView> pending = postRepository.findWithoutSummary(Limit.of(10));
+        assertEquals(1, pending.size());
+        assertEquals(withoutSummary.getId(), pending.get(0).getId());
+        assertEquals("Conteúdo do post", pending.get(0).getBodyPrefix());
+
+        postRepository.updateSummaries(Map.of(withoutSummary.getId(), "Novo resumo"));
+
+        assertEquals("Novo resumo", postRepository.findById(withoutSummary.getId()).orElseThrow().getSummary());
+        assertTrue(postRepository.findWithoutSummary(Limit.of(10)).isEmpty());
+    }
+
+    @Test
+    void findSummariesAfter_DevePercorrerPostsOrdenadosPeloId() {
+
+        UUID first = new UUID(0, 1);
+        UUID second = new UUID(0, 2);
+        UUID third = new UUID(0, 3);
+        for (UUID id : List.of(third, first, second)) {
+            Post post = post(id.toString());
+            post.setId(id);
+            postRepository.save(post);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<PostSummaryView> firstPage = postRepository.findFirstSummaries(Limit.of(2));
+        List<PostSummaryView> secondPage = postRepository.findSummariesAfter(firstPage.get(1).getId(), Limit.of(2));
+
+        assertEquals(List.of(first, second), firstPage.stream().map(PostSummaryView::getId).toList());
+        assertEquals(List.of(third), secondPage.stream().map(PostSummaryView::getId).toList());
+        assertEquals("Conteúdo do post", secondPage.get(0).getBodyPrefix());
+    }
+
+    @Test
+    void streamPosts_DevePercorrerPostsEmOrdemAPartirDoTokenComCamposSelecionados() {
+
+        UUID first = new UUID(0, 1);
+        UUID second = new UUID(0, 2);
+        UUID third = new UUID(0, 3);
+        for (UUID id : List.of(third, first, second)) {
+            Post post = post("Post " + id.getLeastSignificantBits());
+            post.setId(id);
+            postRepository.save(post);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Post> all = new ArrayList<>();
+        postRepository.streamPosts(null, EnumSet.allOf(PostExportField.class), 2, all::add);
+        List<Post> resumed = new ArrayList<>();
+        postRepository.streamPosts(first, EnumSet.of(PostExportField.ID, PostExportField.TITLE), 2, resumed::add);
+
+        assertEquals(List.of(first, second, third), all.stream().map(Post::getId).toList());
+        assertEquals("Conteúdo do post", all.get(0).getBody());
+        assertEquals(List.of(second, third), resumed.stream().map(Post::getId).toList());
+        assertEquals("Post 2", resumed.get(0).getTitle());
+        assertNull(resumed.get(0).getBody());
+        assertNull(resumed.get(0).getAuthor());
+    }
+
+    private Post post(String title) {
+        return Post.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .body("Conteúdo do post")
+                .author("Autor")
+                .build();
+    }
+}
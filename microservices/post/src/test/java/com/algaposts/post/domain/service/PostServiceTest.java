@@ -1,31 +1,55 @@
 package com.algaposts.post.domain.service;
 
+import com.algaposts.post.api.dto.PostBatchItemOutput;
+import com.algaposts.post.api.dto.PostBatchOutput;
+import com.algaposts.post.api.dto.PostCursorPageOutput;
 import com.algaposts.post.api.dto.PostInput;
 import com.algaposts.post.api.dto.PostOutput;
 import com.algaposts.post.api.dto.PostSummaryOutput;
-import com.algaposts.post.api.dto.TextProcessorData;
+import com.algaposts.post.api.dto.TextProcessorResultData;
 import com.algaposts.post.domain.model.Post;
+import com.algaposts.post.domain.repository.PostExportField;
 import com.algaposts.post.domain.repository.PostRepository;
+import com.algaposts.post.domain.repository.PostSummaryView;
 import com.algaposts.post.infrastructure.rabbitmq.EventPublisher;
 import com.algaposts.post.mapper.PostMapper;
+import com.algaposts.shared.text.TextEvaluation;
+import com.algaposts.shared.text.impl.FixedPriceCalculator;
+import com.algaposts.shared.text.impl.StreamingWordCountStrategy;
+import com.algaposts.shared.text.impl.TextEvaluator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +64,18 @@ class PostServiceTest {
     @Mock
     private PostMapper postMapper;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private TextEvaluator textEvaluator;
+
+    @Mock
+    private Validator validator;
+
     @InjectMocks
     private PostService postService;
 
@@ -97,6 +133,164 @@ class PostServiceTest {
         verify(postMapper).toOutput(post);
     }
 
+    @Test
+    void processPostStream_DeveGravarBodyEmStreamComContagemValorEResumoNoMesmoInsert() {
+
+        drainStreamedBody();
+        when(textEvaluator.startEvaluation()).thenReturn(streamingEvaluator().startEvaluation());
+        when(postMapper.summarize("Um corpo muito grande")).thenReturn("Um corpo muito grande");
+        when(postMapper.toOutput(any(Post.class))).thenAnswer(invocation -> new PostMapper().toOutput(invocation.getArgument(0)));
+
+        PostOutput result = postService.processPostStream("Título", "Autor", new StringReader("Um corpo muito grande"));
+
+        assertNotNull(result.getId());
+        assertNull(result.getBody());
+        assertEquals(4, result.getWordCount());
+        assertEquals(new BigDecimal("0.40"), result.getCalculatedValue());
+        verify(postMapper).toOutput(argThat(saved -> "Um corpo muito grande".equals(saved.getSummary())));
+        verify(postRepository).insertWithStreamedBody(any(Reader.class), any());
+        verify(postRepository, never()).applyProcessedData(any());
+        verify(postRepository, never()).updateSummaries(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void processPostStream_DeveRejeitarBodyVazio() {
+
+        drainStreamedBody();
+        when(textEvaluator.startEvaluation()).thenReturn(streamingEvaluator().startEvaluation());
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> postService.processPostStream("Título", "Autor", new StringReader("  \n ")));
+
+        assertEquals(400, exception.getStatusCode().value());
+        verify(postRepository, never()).applyProcessedData(any());
+    }
+
+    @Test
+    void processPost_DeveProcessarEmProcessoSemPublicarEventoQuandoBodyForPequeno() {
+
+        ReflectionTestUtils.setField(postService, "inlineProcessingEnabled", true);
+        ReflectionTestUtils.setField(postService, "inlineMaxBodyChars", 100);
+        when(postMapper.toEntity(postInput)).thenReturn(post);
+        when(textEvaluator.evaluate(post.getBody())).thenReturn(evaluation());
+        when(postRepository.save(post)).thenReturn(post);
+        when(postMapper.toOutput(post)).thenReturn(postOutput);
+
+        post.setWordCount(null);
+        post.setCalculatedValue(null);
+        postService.processPost(postInput);
+
+        assertEquals(3, post.getWordCount());
+        assertEquals(new BigDecimal("0.30"), post.getCalculatedValue());
+        assertEquals(16, post.getCharacterCount());
+        assertEquals(1, post.getSentenceCount());
+        assertEquals(3, post.getUniqueWordCount());
+        assertEquals(1, post.getReadingTimeSeconds());
+        verify(postRepository).save(post);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void processPost_DevePublicarEventoQuandoBodyUltrapassarLimite() {
+
+        ReflectionTestUtils.setField(postService, "inlineProcessingEnabled", true);
+        ReflectionTestUtils.setField(postService, "inlineMaxBodyChars", 5);
+        when(postMapper.toEntity(postInput)).thenReturn(post);
+        when(postRepository.save(post)).thenReturn(post);
+        when(postMapper.toOutput(post)).thenReturn(postOutput);
+
+        postService.processPost(postInput);
+
+        verify(eventPublisher).publishPostCreated(post);
+        verifyNoInteractions(textEvaluator);
+    }
+
+    @Test
+    void processPosts_DeveInserirLoteEPublicarEventosDeUmaVez() {
+
+        ReflectionTestUtils.setField(postService, "batchMaxSize", 10);
+        Post otherPost = Post.builder().id(UUID.randomUUID()).body("Outro post").build();
+        PostInput otherInput = PostInput.builder().title("Outro").body("Outro post").author("Autor").build();
+        when(validator.validate(any(PostInput.class))).thenReturn(Set.of());
+        when(postMapper.toEntity(postInput)).thenReturn(post);
+        when(postMapper.toEntity(otherInput)).thenReturn(otherPost);
+
+        PostBatchOutput result = postService.processPosts(List.of(postInput, otherInput));
+
+        assertEquals(2, result.getCreated());
+        assertEquals(List.of(postId, otherPost.getId()), result.getItems().stream().map(PostBatchItemOutput::getId).toList());
+        assertEquals(List.of(0, 1), result.getItems().stream().map(PostBatchItemOutput::getIndex).toList());
+        verify(postRepository).insertPosts(List.of(post, otherPost));
+        verify(postRepository, never()).save(any());
+        verify(eventPublisher).publishPostsCreated(List.of(post, otherPost));
+        verify(eventPublisher, never()).publishPostCreated(any());
+    }
+
+    @Test
+    void processPosts_DeveRejeitarLoteInteiroQuandoAlgumItemForInvalido() {
+
+        ReflectionTestUtils.setField(postService, "batchMaxSize", 10);
+        ReflectionTestUtils.setField(postService, "validator", Validation.buildDefaultValidatorFactory().getValidator());
+        PostInput invalidInput = PostInput.builder().title("Sem corpo").author("Autor").build();
+
+        PostBatchOutput result = postService.processPosts(Arrays.asList(postInput, invalidInput, null));
+
+        assertEquals(0, result.getCreated());
+        assertEquals(2, result.getItems().size());
+        assertEquals(1, result.getItems().get(0).getIndex());
+        assertEquals(1, result.getItems().get(0).getErrors().size());
+        assertTrue(result.getItems().get(0).getErrors().get(0).startsWith("body: "));
+        assertEquals(2, result.getItems().get(1).getIndex());
+        verifyNoInteractions(postRepository, eventPublisher);
+    }
+
+    @Test
+    void processPosts_DeveRejeitarLoteAcimaDoTamanhoMaximo() {
+
+        ReflectionTestUtils.setField(postService, "batchMaxSize", 1);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> postService.processPosts(List.of(postInput, postInput)));
+
+        assertEquals(413, exception.getStatusCode().value());
+        verifyNoInteractions(postRepository, eventPublisher);
+    }
+
+    @Test
+    void processPosts_DeveProcessarPostsPequenosEmProcessoEPublicarApenasOsDemais() {
+
+        ReflectionTestUtils.setField(postService, "batchMaxSize", 10);
+        ReflectionTestUtils.setField(postService, "inlineProcessingEnabled", true);
+        ReflectionTestUtils.setField(postService, "inlineMaxBodyChars", 100);
+        PostInput largeInput = PostInput.builder().title("Grande").body("x".repeat(101)).author("Autor").build();
+        Post large = Post.builder().id(UUID.randomUUID()).title("Grande").body("x".repeat(101)).author("Autor").build();
+        when(validator.validate(any(PostInput.class))).thenReturn(Set.of());
+        when(postMapper.toEntity(postInput)).thenReturn(post);
+        when(postMapper.toEntity(largeInput)).thenReturn(large);
+        when(textEvaluator.evaluate(post.getBody())).thenReturn(evaluation());
+
+        PostBatchOutput result = postService.processPosts(List.of(postInput, largeInput));
+
+        assertEquals(2, result.getCreated());
+        assertEquals(new BigDecimal("0.30"), post.getCalculatedValue());
+        assertEquals(3, post.getUniqueWordCount());
+        verify(postRepository).insertPosts(List.of(post, large));
+        verify(eventPublisher).publishPostsCreated(List.of(large));
+    }
+
+    @Test
+    void exportPosts_DeveDelegarAoRepositorioComFetchSizeConfigurado() {
+
+        ReflectionTestUtils.setField(postService, "exportFetchSize", 500);
+        Set<PostExportField> fields = EnumSet.of(PostExportField.ID, PostExportField.TITLE);
+        Consumer<Post> consumer = exported -> { };
+
+        postService.exportPosts(postId, fields, consumer);
+
+        verify(postRepository).streamPosts(postId, fields, 500, consumer);
+    }
+
     @Test
     void save_DeveSalvarPostComSucesso() {
 
@@ -110,42 +304,77 @@ class PostServiceTest {
     }
 
     @Test
-    void updatePostWithProcessedData_DeveAtualizarPostExistente() {
+    void updatePostWithProcessedData_DeveAtualizarPostSemCarregarEntidade() {
 
-        TextProcessorData textProcessorData = TextProcessorData.builder()
+        TextProcessorResultData textProcessorResultData = TextProcessorResultData.builder()
                 .postId(postId)
                 .wordCount(5)
                 .calculatedValue(BigDecimal.valueOf(15.75))
                 .build();
 
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(postRepository.save(any(Post.class))).thenReturn(post);
+        when(postRepository.applyProcessedData(textProcessorResultData)).thenReturn(true);
+        when(cacheManager.getCache("posts")).thenReturn(cache);
 
-        postService.updatePostWithProcessedData(textProcessorData);
+        boolean updated = postService.updatePostWithProcessedData(textProcessorResultData);
 
-        verify(postRepository).findById(postId);
-        verify(postRepository).save(post);
-        assertEquals(5, post.getWordCount());
-        assertEquals(BigDecimal.valueOf(15.75), post.getCalculatedValue());
+        assertTrue(updated);
+        verify(cache).evict(postId);
+        verify(postRepository, never()).findById(any(UUID.class));
+        verify(postRepository, never()).save(any(Post.class));
     }
 
     @Test
-    void updatePostWithProcessedData_NaoDeveAtualizarPostInexistente() {
+    void updatePostWithProcessedData_DeveIgnorarResultadoJaAplicadoSemRemoverDoCache() {
 
-        TextProcessorData textProcessorData = TextProcessorData.builder()
+        TextProcessorResultData textProcessorResultData = TextProcessorResultData.builder()
                 .postId(postId)
                 .wordCount(5)
                 .calculatedValue(BigDecimal.valueOf(15.75))
                 .build();
 
-        when(postRepository.findById(postId)).thenReturn(Optional.empty());
+        when(postRepository.applyProcessedData(textProcessorResultData)).thenReturn(false);
 
-        postService.updatePostWithProcessedData(textProcessorData);
+        boolean updated = postService.updatePostWithProcessedData(textProcessorResultData);
 
-        verify(postRepository).findById(postId);
+        assertFalse(updated);
+        verifyNoInteractions(cacheManager);
+        verify(postRepository, never()).save(any(Post.class));
+    }
+
+    @Test
+    void updatePostsWithProcessedData_DeveAtualizarLoteSemCarregarEntidades() {
+
+        UUID otherPostId = UUID.randomUUID();
+        List<TextProcessorResultData> processedData = List.of(
+                TextProcessorResultData.builder().postId(postId).wordCount(5).calculatedValue(BigDecimal.valueOf(0.50)).build(),
+                TextProcessorResultData.builder().postId(otherPostId).wordCount(7).calculatedValue(BigDecimal.valueOf(0.70)).build());
+        when(postRepository.updateProcessedData(processedData)).thenReturn(List.of(postId, otherPostId));
+        when(cacheManager.getCache("posts")).thenReturn(cache);
+
+        postService.updatePostsWithProcessedData(processedData);
+
+        verify(cache).evict(postId);
+        verify(cache).evict(otherPostId);
+        verify(postRepository, never()).findById(any(UUID.class));
         verify(postRepository, never()).save(any(Post.class));
     }
 
+    @Test
+    void updatePostsWithProcessedData_DeveRemoverDoCacheApenasPostsAlterados() {
+
+        UUID otherPostId = UUID.randomUUID();
+        List<TextProcessorResultData> processedData = List.of(
+                TextProcessorResultData.builder().postId(postId).wordCount(5).calculatedValue(BigDecimal.valueOf(0.50)).build(),
+                TextProcessorResultData.builder().postId(otherPostId).wordCount(7).calculatedValue(BigDecimal.valueOf(0.70)).build());
+        when(postRepository.updateProcessedData(processedData)).thenReturn(List.of(otherPostId));
+        when(cacheManager.getCache("posts")).thenReturn(cache);
+
+        postService.updatePostsWithProcessedData(processedData);
+
+        verify(cache).evict(otherPostId);
+        verify(cache, never()).evict(postId);
+    }
+
     @Test
     void findPostById_DeveRetornarPostExistente() {
 
@@ -182,8 +411,8 @@ class PostServiceTest {
         int size = 10;
         PageRequest pageRequest = PageRequest.of(page, size);
 
-        List<Post> posts = List.of(post);
-        Page<Post> postsPage = new PageImpl<>(posts, pageRequest, 1);
+        PostSummaryView postSummaryView = mock(PostSummaryView.class);
+        Page<PostSummaryView> summariesPage = new PageImpl<>(List.of(postSummaryView), pageRequest, 1);
 
         PostSummaryOutput postSummaryOutput = PostSummaryOutput.builder()
                 .id(postId)
@@ -192,8 +421,8 @@ class PostServiceTest {
                 .author("Autor")
                 .build();
 
-        when(postRepository.findAll(pageRequest)).thenReturn(postsPage);
-        when(postMapper.toSummaryOutput(post)).thenReturn(postSummaryOutput);
+        when(postRepository.findAllSummaries(pageRequest)).thenReturn(summariesPage);
+        when(postMapper.toSummaryOutput(postSummaryView)).thenReturn(postSummaryOutput);
 
         Page<PostSummaryOutput> result = postService.findAllPosts(page, size);
 
@@ -202,8 +431,9 @@ class PostServiceTest {
         assertEquals(1, result.getContent().size());
         assertEquals(postSummaryOutput.getId(), result.getContent().get(0).getId());
 
-        verify(postRepository).findAll(pageRequest);
-        verify(postMapper).toSummaryOutput(post);
+        verify(postRepository).findAllSummaries(pageRequest);
+        verify(postRepository, never()).findAll(pageRequest);
+        verify(postMapper).toSummaryOutput(postSummaryView);
     }
 
     @Test
@@ -212,9 +442,9 @@ class PostServiceTest {
         int page = 0;
         int size = 10;
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<Post> emptyPage = new PageImpl<>(List.of(), pageRequest, 0);
+        Page<PostSummaryView> emptyPage = new PageImpl<>(List.of(), pageRequest, 0);
 
-        when(postRepository.findAll(pageRequest)).thenReturn(emptyPage);
+        when(postRepository.findAllSummaries(pageRequest)).thenReturn(emptyPage);
 
         Page<PostSummaryOutput> result = postService.findAllPosts(page, size);
 
@@ -222,7 +452,95 @@ class PostServiceTest {
         assertEquals(0, result.getTotalElements());
         assertTrue(result.getContent().isEmpty());
 
-        verify(postRepository).findAll(pageRequest);
-        verify(postMapper, never()).toSummaryOutput(any(Post.class));
+        verify(postRepository).findAllSummaries(pageRequest);
+        verify(postMapper, never()).toSummaryOutput(any(PostSummaryView.class));
+    }
+
+    @Test
+    void scrollPosts_DeveRetornarProximoCursorQuandoHaMaisPosts() {
+
+        ReflectionTestUtils.setField(postService, "scrollMaxSize", 100);
+        PostSummaryView first = summaryView(new UUID(0, 1));
+        PostSummaryView second = summaryView(new UUID(0, 2));
+        PostSummaryView third = summaryView(new UUID(0, 3));
+        when(postRepository.findFirstSummaries(Limit.of(3))).thenReturn(List.of(first, second, third));
+        when(postMapper.toSummaryOutput(any(PostSummaryView.class)))
+                .thenReturn(PostSummaryOutput.builder().build());
+
+        PostCursorPageOutput result = postService.scrollPosts(null, 2);
+
+        assertEquals(2, result.getContent().size());
+        assertEquals(2, result.getSize());
+        assertNotNull(result.getNext());
+        verify(postMapper, never()).toSummaryOutput(third);
+
+        when(postRepository.findSummariesAfter(second.getId(), Limit.of(3))).thenReturn(List.of(third));
+
+        PostCursorPageOutput lastPage = postService.scrollPosts(result.getNext(), 2);
+
+        assertEquals(1, lastPage.getContent().size());
+        assertNull(lastPage.getNext());
+        verify(postRepository).findSummariesAfter(second.getId(), Limit.of(3));
+        verify(postRepository, never()).findAllSummaries(any());
+    }
+
+    @Test
+    void scrollPosts_DeveLimitarTamanhoAoMaximoConfigurado() {
+
+        ReflectionTestUtils.setField(postService, "scrollMaxSize", 2);
+        List<PostSummaryView> summaries = List.of(summaryView(new UUID(0, 1)), summaryView(new UUID(0, 2)),
+                summaryView(new UUID(0, 3)));
+        when(postRepository.findFirstSummaries(Limit.of(3))).thenReturn(summaries);
+        when(postMapper.toSummaryOutput(any(PostSummaryView.class)))
+                .thenReturn(PostSummaryOutput.builder().build());
+
+        PostCursorPageOutput result = postService.scrollPosts(null, Integer.MAX_VALUE);
+
+        assertEquals(2, result.getSize());
+        assertNotNull(result.getNext());
+        verify(postRepository).findFirstSummaries(Limit.of(3));
+    }
+
+    @Test
+    void scrollPosts_DeveLancarExcecaoQuandoCursorInvalido() {
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> postService.scrollPosts("cursor@invalido", 10));
+
+        assertEquals(400, exception.getStatusCode().value());
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    void scrollPosts_DeveLancarExcecaoQuandoTamanhoInvalido() {
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> postService.scrollPosts(null, 0));
+
+        assertEquals(400, exception.getStatusCode().value());
+        verifyNoInteractions(postRepository);
+    }
+
+    private PostSummaryView summaryView(UUID id) {
+        PostSummaryView view = mock(PostSummaryView.class);
+        lenient().when(view.getId()).thenReturn(id);
+        return view;
+    }
+
+    private void drainStreamedBody() {
+        when(postRepository.insertWithStreamedBody(any(Reader.class), any())).thenAnswer(invocation -> {
+            invocation.<Reader>getArgument(0).transferTo(Writer.nullWriter());
+            return invocation.<Supplier<Post>>getArgument(1).get();
+        });
+    }
+
+    private TextEvaluator streamingEvaluator() {
+        FixedPriceCalculator priceCalculator = new FixedPriceCalculator();
+        ReflectionTestUtils.setField(priceCalculator, "pricePerWord", new BigDecimal("0.10"));
+        return new TextEvaluator(new StreamingWordCountStrategy(), priceCalculator, Optional.empty());
+    }
+
+    private TextEvaluation evaluation() {
+        return new TextEvaluation(3, new BigDecimal("0.30"), 16, 1, 3, 1);
     }
 }
@@ -0,0 +1,81 @@
+package com.algaposts.post.domain.service;
+
+import com.algaposts.shared.text.impl.FixedPriceCalculator;
+import com.algaposts.shared.text.impl.StreamingWordCountStrategy;
+import com.algaposts.shared.text.impl.TextAnalyzer;
+import com.algaposts.shared.text.impl.TextEvaluator;
+import com.algaposts.shared.text.impl.TokenizerRegistry;
+import com.algaposts.shared.text.impl.TokenizerWordCountStrategy;
+import com.algaposts.shared.text.impl.UnicodeWordTokenizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordCountingReaderTest {
+
+    private FixedPriceCalculator priceCalculator;
+
+    @BeforeEach
+    void setUp() {
+        priceCalculator = new FixedPriceCalculator();
+        ReflectionTestUtils.setField(priceCalculator, "pricePerWord", new BigDecimal("0.10"));
+    }
+
+    @Test
+    void read_DeveAvaliarTextoLidoEGuardarPrefixo() throws IOException {
+
+        TextEvaluator evaluator = new TextEvaluator(new StreamingWordCountStrategy(), priceCalculator, Optional.empty());
+        WordCountingReader reader = new WordCountingReader(new StringReader("  Olá,   mundo!\tTudo\nbem?  "),
+                evaluator.startEvaluation(), 10);
+
+        drain(reader, 3);
+
+        assertEquals(4, reader.getEvaluation().wordCount());
+        assertEquals(new BigDecimal("0.40"), reader.getEvaluation().calculatedValue());
+        assertEquals(27, reader.getLength());
+        assertEquals("  Olá,   m", reader.getPrefix());
+    }
+
+    @Test
+    void read_DeveUsarEstrategiaTokenizerEEstatisticasConfiguradas() throws IOException {
+
+        UnicodeWordTokenizer unicode = new UnicodeWordTokenizer();
+        TextEvaluator evaluator = new TextEvaluator(
+                new TokenizerWordCountStrategy(new TokenizerRegistry(List.of(unicode)), UnicodeWordTokenizer.NAME),
+                priceCalculator, Optional.of(new TextAnalyzer(200)));
+        String text = "Olá, mundo! 你好 -- fim. ".repeat(20_000);
+        WordCountingReader reader = new WordCountingReader(new StringReader(text), evaluator.startEvaluation(), 0);
+
+        reader.transferTo(Writer.nullWriter());
+
+        assertEquals(evaluator.evaluate(text), reader.getEvaluation());
+        assertNotNull(reader.getEvaluation().sentenceCount());
+    }
+
+    @Test
+    void skip_DeveSerRejeitado() {
+
+        TextEvaluator evaluator = new TextEvaluator(new StreamingWordCountStrategy(), priceCalculator, Optional.empty());
+        WordCountingReader reader = new WordCountingReader(new StringReader("texto"), evaluator.startEvaluation(), 0);
+
+        assertThrows(IOException.class, () -> reader.skip(1));
+    }
+
+    private void drain(Reader reader, int bufferSize) throws IOException {
+        char[] buffer = new char[bufferSize];
+        int read;
+        do {
+            read = reader.read(buffer, 0, bufferSize);
+        } while (read >= 0);
+    }
+}
@@ -0,0 +1,118 @@
+package com.algaposts.post.infrastructure.cache;
+
+import com.algaposts.post.api.dto.PostOutput;
+import com.algaposts.post.api.dto.TextProcessorResultData;
+import com.algaposts.post.domain.model.Post;
+import com.algaposts.post.domain.repository.PostRepository;
+import com.algaposts.post.domain.service.PostService;
+import com.algaposts.post.infrastructure.rabbitmq.EventPublisher;
+import com.algaposts.post.mapper.PostMapper;
+import com.algaposts.shared.text.impl.TextEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+@Import({CacheConfig.class, PostService.class, PostMapper.class, LocalValidatorFactoryBean.class})
+class CacheConfigTest {
+
+    @Autowired
+    private PostService postService;
+
+    @MockitoBean
+    private PostRepository postRepository;
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    @MockitoBean
+    private TextEvaluator textEvaluator;
+
+    private UUID postId;
+
+    @BeforeEach
+    void setUp() {
+        postId = UUID.randomUUID();
+        Post post = Post.builder()
+                .id(postId)
+                .title("Título do Post")
+                .body("Conteúdo do post")
+                .author("Autor")
+                .wordCount(3)
+                .build();
+        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+    }
+
+    @Test
+    void findPostById_DeveConsultarBancoApenasNaPrimeiraLeitura() {
+
+        PostOutput first = postService.findPostById(postId);
+        PostOutput second = postService.findPostById(postId);
+
+        assertSame(first, second);
+        verify(postRepository, times(1)).findById(postId);
+    }
+
+    @Test
+    void findPostById_NaoDeveCachearPostAindaNaoProcessado() {
+
+        UUID pendingId = UUID.randomUUID();
+        Post pending = Post.builder()
+                .id(pendingId)
+                .title("Título do Post")
+                .body("Conteúdo do post")
+                .author("Autor")
+                .build();
+        when(postRepository.findById(pendingId)).thenReturn(Optional.of(pending));
+
+        postService.findPostById(pendingId);
+        postService.findPostById(pendingId);
+
+        verify(postRepository, times(2)).findById(pendingId);
+    }
+
+    @Test
+    void updatePostWithProcessedData_DeveRemoverPostDoCache() {
+
+        TextProcessorResultData result = TextProcessorResultData.builder().postId(postId).wordCount(3).build();
+        when(postRepository.applyProcessedData(result)).thenReturn(true);
+
+        postService.findPostById(postId);
+        postService.updatePostWithProcessedData(result);
+        postService.findPostById(postId);
+
+        verify(postRepository, times(2)).findById(postId);
+    }
+
+    @Test
+    void updatePostWithProcessedData_DeveManterCacheQuandoResultadoJaFoiAplicado() {
+
+        TextProcessorResultData result = TextProcessorResultData.builder().postId(postId).wordCount(3).build();
+        when(postRepository.applyProcessedData(result)).thenReturn(false);
+
+        postService.findPostById(postId);
+        postService.updatePostWithProcessedData(result);
+        postService.findPostById(postId);
+
+        verify(postRepository, times(1)).findById(postId);
+    }
+
+    @Test
+    void weigh_DeveConsiderarTamanhoDoBody() {
+
+        PostOutput small = PostOutput.builder().body("a").build();
+        PostOutput large = PostOutput.builder().body("a".repeat(10_000)).build();
+
+        assertTrue(CacheConfig.weigh(postId, large) - CacheConfig.weigh(postId, small) >= 9_999);
+    }
+}
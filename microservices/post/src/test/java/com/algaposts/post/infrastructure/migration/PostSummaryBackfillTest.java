@@ -0,0 +1,82 @@
+package com.algaposts.post.infrastructure.migration;
+
+import com.algaposts.post.domain.repository.PostBodyPrefixView;
+import com.algaposts.post.domain.repository.PostRepository;
+import com.algaposts.post.mapper.PostMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostSummaryBackfillTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Spy
+    private PostMapper postMapper;
+
+    @InjectMocks
+    private PostSummaryBackfill postSummaryBackfill;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postSummaryBackfill, "batchSize", 2);
+    }
+
+    @Test
+    void run_DevePreencherResumoEmLotesAteEsgotarPosts() {
+
+        PostBodyPrefixView first = view(UUID.randomUUID(), "Primeiro post");
+        PostBodyPrefixView second = view(UUID.randomUUID(), "a".repeat(351));
+        PostBodyPrefixView third = view(UUID.randomUUID(), "Terceiro post");
+        when(postRepository.findWithoutSummary(Limit.of(2)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+
+        postSummaryBackfill.run(null);
+
+        verify(postRepository).updateSummaries(Map.of(
+                first.getId(), "Primeiro post",
+                second.getId(), "a".repeat(350) + "..."));
+        verify(postRepository).updateSummaries(Map.of(third.getId(), "Terceiro post"));
+        verify(postRepository, times(2)).findWithoutSummary(any());
+    }
+
+    @Test
+    void run_NaoDeveAtualizarQuandoTodosPostsPossuemResumo() {
+
+        when(postRepository.findWithoutSummary(Limit.of(2))).thenReturn(List.of());
+
+        postSummaryBackfill.run(null);
+
+        verify(postRepository, never()).updateSummaries(any());
+    }
+
+    private PostBodyPrefixView view(UUID id, String bodyPrefix) {
+        return new PostBodyPrefixView() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getBodyPrefix() {
+                return bodyPrefix;
+            }
+        };
+    }
+}
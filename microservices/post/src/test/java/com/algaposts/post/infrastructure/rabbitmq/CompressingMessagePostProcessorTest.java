@@ -0,0 +1,49 @@
+package com.algaposts.post.infrastructure.rabbitmq;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.postprocessor.DelegatingDecompressingPostProcessor;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressingMessagePostProcessorTest {
+
+    private final CompressingMessagePostProcessor postProcessor = new CompressingMessagePostProcessor(100);
+
+    @Test
+    void postProcessMessage_NaoDeveComprimirMensagemAbaixoDoLimite() {
+
+        Message message = message("{\"postBody\":\"curto\"}");
+
+        Message result = postProcessor.postProcessMessage(message);
+
+        assertSame(message, result);
+        assertEquals("UTF-8", result.getMessageProperties().getContentEncoding());
+    }
+
+    @Test
+    void postProcessMessage_DeveComprimirMensagemAcimaDoLimiteComGzip() {
+
+        String json = "{\"postBody\":\"" + "palavra ".repeat(100) + "\"}";
+
+        Message result = postProcessor.postProcessMessage(message(json));
+
+        assertTrue(result.getMessageProperties().getContentEncoding().startsWith("gzip"));
+        assertTrue(result.getBody().length < json.length());
+
+        Message decompressed = new DelegatingDecompressingPostProcessor().postProcessMessage(result);
+        assertEquals(json, new String(decompressed.getBody(), StandardCharsets.UTF_8));
+        assertEquals("UTF-8", decompressed.getMessageProperties().getContentEncoding());
+    }
+
+    private Message message(String json) {
+        return MessageBuilder.withBody(json.getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding("UTF-8")
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.algaposts.post.infrastructure.rabbitmq;
+
+import com.algaposts.post.domain.model.OutboxEvent;
+import com.algaposts.post.domain.model.Post;
+import com.algaposts.post.domain.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.algaposts.post.infrastructure.rabbitmq.RabbitMQConfig.EXCHANGE_POST_PROCESS;
+import static com.algaposts.post.infrastructure.rabbitmq.RabbitMQConfig.ROUTING_KEY_POST_CREATED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventPublisherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventPublisher = new OutboxEventPublisher(outboxEventRepository, objectMapper);
+    }
+
+    @Test
+    void publishPostCreated_DeveGravarEventoNaOutbox() throws Exception {
+
+        UUID postId = UUID.randomUUID();
+        Post post = Post.builder()
+                .id(postId)
+                .title("Título do Post")
+                .body("Conteúdo do post")
+                .author("Autor")
+                .build();
+
+        outboxEventPublisher.publishPostCreated(post);
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        OutboxEvent event = captor.getValue();
+
+        assertEquals(postId, event.getAggregateId());
+        assertEquals(EXCHANGE_POST_PROCESS, event.getExchange());
+        assertEquals(ROUTING_KEY_POST_CREATED, event.getRoutingKey());
+        assertNotNull(event.getCreatedAt());
+
+        JsonNode payload = objectMapper.readTree(event.getPayload());
+        assertEquals(postId.toString(), payload.get("postId").asText());
+        assertEquals("Conteúdo do post", payload.get("postBody").asText());
+    }
+
+    @Test
+    void publishPostsCreated_DeveGravarTodosOsEventosDeUmaVez() {
+
+        Post first = Post.builder().id(UUID.randomUUID()).body("Primeiro").build();
+        Post second = Post.builder().id(UUID.randomUUID()).body("Segundo").build();
+
+        outboxEventPublisher.publishPostsCreated(List.of(first, second));
+
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.captor();
+        verify(outboxEventRepository).saveAll(captor.capture());
+        List<OutboxEvent> events = captor.getValue();
+
+        assertEquals(List.of(first.getId(), second.getId()), events.stream().map(OutboxEvent::getAggregateId).toList());
+        assertEquals(events.get(0).getCreatedAt(), events.get(1).getCreatedAt());
+        assertTrue(events.stream().allMatch(event -> ROUTING_KEY_POST_CREATED.equals(event.getRoutingKey())));
+    }
+}
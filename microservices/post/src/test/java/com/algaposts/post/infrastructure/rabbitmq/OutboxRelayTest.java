@@ -0,0 +1,133 @@
+package com.algaposts.post.infrastructure.rabbitmq;
+
+import com.algaposts.post.domain.model.OutboxEvent;
+import com.algaposts.post.domain.repository.OutboxEventRepository;
+import com.algaposts.post.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.algaposts.post.infrastructure.rabbitmq.RabbitMQConfig.EXCHANGE_POST_PROCESS;
+import static com.algaposts.post.infrastructure.rabbitmq.RabbitMQConfig.ROUTING_KEY_POST_CREATED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations rabbitOperations;
+
+    private OutboxRelay outboxRelay;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(outboxEventRepository, rabbitTemplate, new PipelineMetrics(meterRegistry));
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 2);
+        ReflectionTestUtils.setField(outboxRelay, "confirmTimeoutMs", 1000L);
+    }
+
+    @Test
+    void relay_NaoDevePublicarQuandoOutboxVazia() {
+
+        when(outboxEventRepository.findByOrderByCreatedAtAsc(Limit.of(2))).thenReturn(List.of());
+
+        outboxRelay.relay();
+
+        verifyNoInteractions(rabbitTemplate);
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void relay_DevePublicarLoteComConfirmacaoERemoverEventos() {
+
+        OutboxEvent event = event("{\"postId\":\"1\"}");
+        when(outboxEventRepository.findByOrderByCreatedAtAsc(Limit.of(2))).thenReturn(List.of(event));
+        whenInvokeRunsOnChannel();
+
+        outboxRelay.relay();
+
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitOperations).send(eq(EXCHANGE_POST_PROCESS), eq(ROUTING_KEY_POST_CREATED), captor.capture());
+        verify(rabbitOperations).waitForConfirmsOrDie(1000L);
+        assertEquals("{\"postId\":\"1\"}", new String(captor.getValue().getBody(), StandardCharsets.UTF_8));
+        assertEquals("application/json", captor.getValue().getMessageProperties().getContentType());
+        assertEquals(event.getCreatedAt().toInstant().toEpochMilli(),
+                (Long) captor.getValue().getMessageProperties().getHeader(RabbitMQConfig.POST_CREATED_AT_HEADER));
+        assertNotNull(captor.getValue().getMessageProperties().getTimestamp());
+        assertEquals(1, meterRegistry.get("post.event.publish").timer().count());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(event.getId()));
+    }
+
+    @Test
+    void relay_DeveDrenarNovamenteQuandoLoteEstiverCheio() {
+
+        OutboxEvent first = event("{}");
+        OutboxEvent second = event("{}");
+        OutboxEvent third = event("{}");
+        when(outboxEventRepository.findByOrderByCreatedAtAsc(Limit.of(2)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+        whenInvokeRunsOnChannel();
+
+        outboxRelay.relay();
+
+        verify(rabbitOperations, times(3)).send(anyString(), anyString(), any(Message.class));
+        verify(rabbitOperations, times(2)).waitForConfirmsOrDie(1000L);
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(first.getId(), second.getId()));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(third.getId()));
+    }
+
+    @Test
+    void relay_DeveManterEventosQuandoConfirmacaoFalhar() {
+
+        when(outboxEventRepository.findByOrderByCreatedAtAsc(Limit.of(2))).thenReturn(List.of(event("{}")));
+        whenInvokeRunsOnChannel();
+        doThrow(new AmqpTimeoutException("timeout")).when(rabbitOperations).waitForConfirmsOrDie(anyLong());
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private void whenInvokeRunsOnChannel() {
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitOperations));
+    }
+
+    private OutboxEvent event(String payload) {
+        return OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .aggregateId(UUID.randomUUID())
+                .exchange(EXCHANGE_POST_PROCESS)
+                .routingKey(ROUTING_KEY_POST_CREATED)
+                .payload(payload)
+                .createdAt(OffsetDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.algaposts.post.infrastructure.rabbitmq;
+
+import com.algaposts.post.api.dto.TextProcessorResultData;
+import com.algaposts.post.domain.service.PostService;
+import com.algaposts.post.infrastructure.metrics.PipelineMetrics;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostBatchMessageConsumerTest {
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private Channel channel;
+
+    @Mock
+    private MessageRecoverer messageRecoverer;
+
+    private PostBatchMessageConsumer consumer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        var messageConverter = new Jackson2JsonMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new PostBatchMessageConsumer(postService, messageConverter, messageRecoverer,
+                new PipelineMetrics(meterRegistry));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void receiveMessages_DeveAplicarLoteEmUmaChamadaEConfirmarComAckMultiplo() throws Exception {
+
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+
+        consumer.receiveMessages(List.of(message(1, firstId), message(2, secondId)), channel);
+
+        ArgumentCaptor<List<TextProcessorResultData>> captor = ArgumentCaptor.forClass(List.class);
+        verify(postService).updatePostsWithProcessedData(captor.capture());
+        assertEquals(List.of(firstId, secondId), captor.getValue().stream().map(TextProcessorResultData::getPostId).toList());
+        assertEquals(5, captor.getValue().get(0).getWordCount());
+        assertEquals(new BigDecimal("0.50"), captor.getValue().get(0).getCalculatedValue());
+        assertEquals(30, captor.getValue().get(0).getCharacterCount());
+        assertEquals(4, captor.getValue().get(0).getUniqueWordCount());
+        assertEquals(2, captor.getValue().get(0).getReadingTimeSeconds());
+        verify(channel).basicAck(2, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void receiveMessages_DeveRegistrarLatenciaFimAFimApenasDosPostsAtualizados() throws Exception {
+
+        UUID updatedId = UUID.randomUUID();
+        UUID duplicateId = UUID.randomUUID();
+        Message updated = message(1, updatedId);
+        updated.getMessageProperties().setHeader(RabbitMQConfig.POST_CREATED_AT_HEADER, System.currentTimeMillis() - 1_000);
+        Message duplicate = message(2, duplicateId);
+        duplicate.getMessageProperties().setHeader(RabbitMQConfig.POST_CREATED_AT_HEADER, System.currentTimeMillis() - 1_000);
+        when(postService.updatePostsWithProcessedData(anyList())).thenReturn(List.of(updatedId));
+
+        consumer.receiveMessages(List.of(updated, duplicate), channel);
+
+        assertEquals(1, meterRegistry.get("post.pipeline.latency").timer().count());
+        assertTrue(meterRegistry.get("post.pipeline.latency").timer().totalTime(TimeUnit.MILLISECONDS) >= 1_000);
+        assertEquals(1, meterRegistry.get("post.result.apply").tag("mode", "batch").timer().count());
+    }
+
+    @Test
+    void receiveMessages_DeveEnviarMensagemInvalidaParaDlq() throws Exception {
+
+        Message invalid = MessageBuilder.withBody("invalido".getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setDeliveryTag(1L)
+                .build();
+
+        consumer.receiveMessages(List.of(invalid, message(2, UUID.randomUUID())), channel);
+
+        verify(channel).basicNack(1, false, false);
+        verify(postService).updatePostsWithProcessedData(anyList());
+        verify(channel).basicAck(2, true);
+    }
+
+    @Test
+    void receiveMessages_DeveAplicarIndividualmenteQuandoLoteFalhar() throws Exception {
+
+        UUID okId = UUID.randomUUID();
+        UUID failingId = UUID.randomUUID();
+        doThrow(new RuntimeException("Erro no lote")).when(postService).updatePostsWithProcessedData(anyList());
+        doAnswer(invocation -> {
+            if (failingId.equals(invocation.<TextProcessorResultData>getArgument(0).getPostId())) {
+                throw new RuntimeException("Erro no post");
+            }
+            return true;
+        }).when(postService).updatePostWithProcessedData(any(TextProcessorResultData.class));
+
+        Message failing = message(2, failingId);
+
+        consumer.receiveMessages(List.of(message(1, okId), failing), channel);
+
+        verify(channel).basicAck(1, false);
+        verify(messageRecoverer).recover(eq(failing), any(RuntimeException.class));
+        verify(channel).basicAck(2, false);
+        verify(channel, never()).basicAck(anyLong(), eq(true));
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void receiveMessages_DeveEnviarParaDlqQuandoTentativasEsgotadas() throws Exception {
+
+        doThrow(new RuntimeException("Erro no lote")).when(postService).updatePostsWithProcessedData(anyList());
+        doThrow(new RuntimeException("Erro no post")).when(postService).updatePostWithProcessedData(any(TextProcessorResultData.class));
+        doThrow(new AmqpRejectAndDontRequeueException("Tentativas esgotadas"))
+                .when(messageRecoverer).recover(any(Message.class), any(Throwable.class));
+
+        consumer.receiveMessages(List.of(message(1, UUID.randomUUID())), channel);
+
+        verify(channel).basicNack(1, false, false);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    private Message message(long deliveryTag, UUID postId) {
+        String json = "{\"postId\":\"" + postId + "\",\"wordCount\":5,\"calculatedValue\":0.50,"
+                + "\"characterCount\":30,\"sentenceCount\":2,\"uniqueWordCount\":4,\"readingTimeSeconds\":2}";
+        return MessageBuilder.withBody(json.getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setDeliveryTag(deliveryTag)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.algaposts.post.infrastructure.rabbitmq;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RetryQueueMessageRecovererTest {
+
+    private static final String RETRY_EXCHANGE = "retry-exchange";
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations rabbitOperations;
+
+    private RetryQueueMessageRecoverer recoverer;
+
+    @BeforeEach
+    void setUp() {
+        recoverer = new RetryQueueMessageRecoverer(rabbitTemplate, RETRY_EXCHANGE, new long[]{10000, 20000}, 1000);
+    }
+
+    @Test
+    void recover_DevePublicarNaPrimeiraFilaDeRetryEAguardarConfirmacao() {
+
+        whenInvokeRunsOnChannel();
+        Message message = message(null);
+
+        recoverer.recover(message, new RuntimeException("Erro"));
+
+        var inOrder = inOrder(rabbitOperations);
+        inOrder.verify(rabbitOperations).send(RETRY_EXCHANGE, "post.resulted", message);
+        inOrder.verify(rabbitOperations).waitForConfirmsOrDie(1000L);
+        assertEquals(1, (Integer) message.getMessageProperties().getHeader(RetryQueueMessageRecoverer.RETRY_ATTEMPT_HEADER));
+        assertEquals("10000", message.getMessageProperties().getHeader(RetryQueueMessageRecoverer.RETRY_DELAY_HEADER));
+    }
+
+    @Test
+    void recover_DeveUsarProximoNivelDeAtraso() {
+
+        whenInvokeRunsOnChannel();
+        Message message = message(1);
+
+        recoverer.recover(message, new RuntimeException("Erro"));
+
+        verify(rabbitOperations).send(RETRY_EXCHANGE, "post.resulted", message);
+        assertEquals(2, (Integer) message.getMessageProperties().getHeader(RetryQueueMessageRecoverer.RETRY_ATTEMPT_HEADER));
+        assertEquals("20000", message.getMessageProperties().getHeader(RetryQueueMessageRecoverer.RETRY_DELAY_HEADER));
+    }
+
+    @Test
+    void recover_DevePropagarFalhaQuandoRetryNaoForConfirmado() {
+
+        whenInvokeRunsOnChannel();
+        doThrow(new AmqpTimeoutException("timeout")).when(rabbitOperations).waitForConfirmsOrDie(anyLong());
+
+        assertThrows(AmqpTimeoutException.class, () -> recoverer.recover(message(null), new RuntimeException("Erro")));
+    }
+
+    @Test
+    void recover_DeveRejeitarQuandoTentativasEsgotadas() {
+
+        Message message = message(2);
+
+        assertThrows(AmqpRejectAndDontRequeueException.class,
+                () -> recoverer.recover(message, new RuntimeException("Erro")));
+
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    private void whenInvokeRunsOnChannel() {
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitOperations));
+    }
+
+    private Message message(Integer attempt) {
+        var builder = MessageBuilder.withBody("{}".getBytes(StandardCharsets.UTF_8))
+                .setReceivedRoutingKey("post.resulted");
+        if (attempt != null) {
+            builder.setHeader(RetryQueueMessageRecoverer.RETRY_ATTEMPT_HEADER, attempt);
+        }
+        return builder.build();
+    }
+}
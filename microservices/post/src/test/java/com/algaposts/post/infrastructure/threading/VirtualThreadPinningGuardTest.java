@@ -0,0 +1,57 @@
+package com.algaposts.post.infrastructure.threading;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningGuardTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadPinningGuard.class)
+            .withBean(HikariDataSource.class, () -> hikari(VirtualThreadPinningGuard.carrierThreads() + 5, 0));
+
+    @Test
+    void guard_DeveLimitarPoolApenasComVirtualThreads() {
+
+        contextRunner.run(context -> assertEquals(VirtualThreadPinningGuard.carrierThreads() + 5,
+                context.getBean(HikariDataSource.class).getMaximumPoolSize()));
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(VirtualThreadPinningGuard.class);
+                    assertEquals(VirtualThreadPinningGuard.carrierThreads(),
+                            context.getBean(HikariDataSource.class).getMaximumPoolSize());
+                });
+    }
+
+    @Test
+    void limitPoolSize_DeveReduzirPoolEMinimoOciosoAoNumeroDeCarrierThreads() {
+
+        HikariDataSource hikari = hikari(10, 8);
+
+        VirtualThreadPinningGuard.limitPoolSize(hikari, 4);
+
+        assertEquals(4, hikari.getMaximumPoolSize());
+        assertEquals(4, hikari.getMinimumIdle());
+    }
+
+    @Test
+    void limitPoolSize_DeveManterPoolMenorQueCarrierThreads() {
+
+        HikariDataSource hikari = hikari(4, 2);
+
+        VirtualThreadPinningGuard.limitPoolSize(hikari, 8);
+
+        assertEquals(4, hikari.getMaximumPoolSize());
+        assertEquals(2, hikari.getMinimumIdle());
+    }
+
+    private static HikariDataSource hikari(int maximumPoolSize, int minimumIdle) {
+        var hikari = new HikariDataSource();
+        hikari.setMaximumPoolSize(maximumPoolSize);
+        hikari.setMinimumIdle(minimumIdle);
+        return hikari;
+    }
+}
@@ -4,6 +4,7 @@ import com.algaposts.post.api.dto.PostInput;
 import com.algaposts.post.api.dto.PostOutput;
 import com.algaposts.post.api.dto.PostSummaryOutput;
 import com.algaposts.post.domain.model.Post;
+import com.algaposts.post.domain.repository.PostSummaryView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -37,6 +38,10 @@ class PostMapperTest {
                 .author("Autor")
                 .wordCount(3)
                 .calculatedValue(BigDecimal.valueOf(10.50))
+                .characterCount(16)
+                .sentenceCount(1)
+                .uniqueWordCount(3)
+                .readingTimeSeconds(1)
                 .build();
     }
 
@@ -52,6 +57,7 @@ class PostMapperTest {
         assertEquals(postInput.getAuthor(), result.getAuthor());
         assertNull(result.getWordCount()); // Ainda não processado
         assertNull(result.getCalculatedValue()); // Ainda não processado
+        assertEquals(postInput.getBody(), result.getSummary());
     }
 
     @Test
@@ -66,6 +72,10 @@ class PostMapperTest {
         assertEquals(post.getAuthor(), result.getAuthor());
         assertEquals(post.getWordCount(), result.getWordCount());
         assertEquals(post.getCalculatedValue(), result.getCalculatedValue());
+        assertEquals(16, result.getCharacterCount());
+        assertEquals(1, result.getSentenceCount());
+        assertEquals(3, result.getUniqueWordCount());
+        assertEquals(1, result.getReadingTimeSeconds());
     }
 
     @Test
@@ -238,4 +248,65 @@ class PostMapperTest {
         String expectedPrefix = longTextWithoutSpaces.substring(0, 350);
         assertEquals(expectedPrefix + "...", result.getSummary());
     }
+
+    @Test
+    void toSummaryOutput_DeveConverterProjecaoUsandoPrefixoDoBody() {
+
+        String body = "palavra ".repeat(100);
+        PostSummaryView view = summaryView(null, body.substring(0, PostSummaryView.BODY_PREFIX_LENGTH));
+
+        PostSummaryOutput result = postMapper.toSummaryOutput(view);
+
+        assertEquals(postId, result.getId());
+        assertEquals("Título", result.getTitle());
+        assertEquals("Autor", result.getAuthor());
+        assertEquals(postMapper.toSummaryOutput(Post.builder().body(body).build()).getSummary(), result.getSummary());
+    }
+
+    @Test
+    void toSummaryOutput_DevePreferirResumoArmazenadoDaProjecao() {
+
+        PostSummaryOutput result = postMapper.toSummaryOutput(summaryView("Resumo armazenado", null));
+
+        assertEquals("Resumo armazenado", result.getSummary());
+    }
+
+    @Test
+    void toSummaryOutput_DevePreferirResumoArmazenadoDoPost() {
+
+        post.setSummary("Resumo armazenado");
+
+        PostSummaryOutput result = postMapper.toSummaryOutput(post);
+
+        assertEquals("Resumo armazenado", result.getSummary());
+    }
+
+    private PostSummaryView summaryView(String summary, String bodyPrefix) {
+        return new PostSummaryView() {
+            @Override
+            public UUID getId() {
+                return postId;
+            }
+
+            @Override
+            public String getTitle() {
+                return "Título";
+            }
+
+            @Override
+            public String getAuthor() {
+                return "Autor";
+            }
+
+            @Override
+            public String getSummary() {
+                return summary;
+            }
+
+            @Override
+            public String getBodyPrefix() {
+                return bodyPrefix;
+            }
+        };
+    }
 }
@@ -0,0 +1,182 @@
+package com.algaposts.shared.messaging;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@RequiredArgsConstructor
+public class AdaptiveConcurrencyController implements SchedulingConfigurer {
+
+    static final String LISTENER_TIMER = "spring.rabbitmq.listener";
+    private static final String METRIC_PREFIX = "rabbitmq.listener.adaptive.";
+    private static final double LATENCY_SMOOTHING = 0.3;
+
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final AmqpAdmin amqpAdmin;
+    private final MeterRegistry meterRegistry;
+    private final AdaptiveConcurrencySettings settings;
+    private final int initialPrefetch;
+    private final Map<String, ListenerState> states = new ConcurrentHashMap<>();
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::adjust, Duration.ofMillis(settings.intervalMs()));
+    }
+
+    public void adjust() {
+        adjust(System.currentTimeMillis());
+    }
+
+    void adjust(long now) {
+        double cpu = cpuLoad();
+        for (MessageListenerContainer container : listenerRegistry.getListenerContainers()) {
+            if (container instanceof SimpleMessageListenerContainer simple && simple.isRunning()) {
+                try {
+                    adjust(simple, cpu, now);
+                } catch (AmqpException e) {
+                    log.warn("Não foi possível ajustar o listener {}: {}", simple.getListenerId(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void adjust(SimpleMessageListenerContainer container, double cpu, long now) {
+        ListenerState state = states.computeIfAbsent(container.getListenerId(), id -> register(id, container));
+        state.queueDepth = queueDepth(container);
+        state.updateLatency(listenerTimers(state.listenerId));
+
+        int consumers = nextConsumers(state.consumers, state.queueDepth, state.latencyMs, cpu, state.prefetch);
+        if (consumers != state.consumers) {
+            log.info("Listener {}: consumidores {} -> {} (fila {}, latência {} ms, CPU {})", state.listenerId,
+                    state.consumers, consumers, state.queueDepth, Math.round(state.latencyMs), Math.round(cpu * 100));
+            container.setConcurrentConsumers(consumers);
+            state.consumers = consumers;
+            meterRegistry.counter(METRIC_PREFIX + "adjustments", "listener.id", state.listenerId,
+                    "parameter", "consumers").increment();
+        }
+
+        if (container.isConsumerBatchEnabled() || now < state.nextPrefetchChangeAt) {
+            return;
+        }
+        int prefetch = nextPrefetch(state.prefetch, state.latencyMs);
+        if (prefetch != state.prefetch) {
+            log.info("Listener {}: prefetch {} -> {} para os próximos consumidores (latência {} ms)", state.listenerId,
+                    state.prefetch, prefetch, Math.round(state.latencyMs));
+            container.setPrefetchCount(prefetch);
+            state.prefetch = prefetch;
+            state.nextPrefetchChangeAt = now + settings.prefetchCooldownMs();
+            meterRegistry.counter(METRIC_PREFIX + "adjustments", "listener.id", state.listenerId,
+                    "parameter", "prefetch").increment();
+        }
+    }
+
+    int nextConsumers(int current, long queueDepth, double latencyMs, double cpu, int prefetch) {
+        boolean overloaded = cpu >= settings.cpuHigh() || latencyMs > settings.latencyTargetMs();
+        if (queueDepth > (long) current * prefetch) {
+            return overloaded ? current : Math.min(settings.maxConsumers(), current + Math.max(1, current / 2));
+        }
+        if (overloaded) {
+            return Math.max(settings.minConsumers(), current - Math.max(1, current / 4));
+        }
+        if (queueDepth == 0) {
+            return Math.max(settings.minConsumers(), current - 1);
+        }
+        return current;
+    }
+
+    int nextPrefetch(int current, double latencyMs) {
+        if (latencyMs <= 0) {
+            return current;
+        }
+        int target = (int) Math.clamp(Math.ceil(settings.prefetchTargetMs() / latencyMs),
+                settings.minPrefetch(), settings.maxPrefetch());
+        return target >= current * 2 || target * 2 <= current ? target : current;
+    }
+
+    private ListenerState register(String listenerId, SimpleMessageListenerContainer container) {
+        int consumers = Math.clamp(container.getActiveConsumerCount(), settings.minConsumers(), settings.maxConsumers());
+        ListenerState state = new ListenerState(listenerId, consumers, initialPrefetch);
+        Gauge.builder(METRIC_PREFIX + "consumers", state, s -> s.consumers)
+                .tag("listener.id", listenerId).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "prefetch", state, s -> s.prefetch)
+                .tag("listener.id", listenerId).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "latency", state, s -> s.latencyMs)
+                .tag("listener.id", listenerId).baseUnit("milliseconds").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "queue.depth", state, s -> s.queueDepth)
+                .tag("listener.id", listenerId).register(meterRegistry);
+        return state;
+    }
+
+    private long queueDepth(SimpleMessageListenerContainer container) {
+        long depth = 0;
+        for (String queue : container.getQueueNames()) {
+            QueueInformation info = amqpAdmin.getQueueInfo(queue);
+            if (info != null) {
+                depth += info.getMessageCount();
+            }
+        }
+        return depth;
+    }
+
+    private Iterable<Timer> listenerTimers(String listenerId) {
+        return meterRegistry.find(LISTENER_TIMER).tag("listener.id", listenerId).timers();
+    }
+
+    private double cpuLoad() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return Math.max(0, os.getCpuLoad());
+        }
+        return 0;
+    }
+
+    private static final class ListenerState {
+
+        private final String listenerId;
+        private volatile int consumers;
+        private volatile int prefetch;
+        private volatile double latencyMs;
+        private volatile long queueDepth;
+        private long nextPrefetchChangeAt;
+        private long lastCount;
+        private double lastTotalMs;
+
+        private ListenerState(String listenerId, int consumers, int prefetch) {
+            this.listenerId = listenerId;
+            this.consumers = consumers;
+            this.prefetch = prefetch;
+        }
+
+        private void updateLatency(Iterable<Timer> timers) {
+            long count = 0;
+            double totalMs = 0;
+            for (Timer timer : timers) {
+                count += timer.count();
+                totalMs += timer.totalTime(TimeUnit.MILLISECONDS);
+            }
+            if (count > lastCount) {
+                double intervalLatency = (totalMs - lastTotalMs) / (count - lastCount);
+                latencyMs = latencyMs == 0 ? intervalLatency
+                        : LATENCY_SMOOTHING * intervalLatency + (1 - LATENCY_SMOOTHING) * latencyMs;
+            }
+            lastCount = count;
+            lastTotalMs = totalMs;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.algaposts.shared.messaging;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+public record AdaptiveConcurrencySettings(
+        @DefaultValue("1") int minConsumers,
+        @DefaultValue("8") int maxConsumers,
+        @DefaultValue("1") int minPrefetch,
+        @DefaultValue("250") int maxPrefetch,
+        @DefaultValue("1000") long prefetchTargetMs,
+        @DefaultValue("200") long latencyTargetMs,
+        @DefaultValue("0.85") double cpuHigh,
+        @DefaultValue("5000") long intervalMs,
+        @DefaultValue("60000") long prefetchCooldownMs) {
+}
@@ -1,4 +1,4 @@
-package com.algaposts.text_processor.domain.service;
+package com.algaposts.shared.text;
 
 import java.math.BigDecimal;
 
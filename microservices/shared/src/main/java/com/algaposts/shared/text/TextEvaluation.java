@@ -0,0 +1,7 @@
+package com.algaposts.shared.text;
+
+import java.math.BigDecimal;
+
+public record TextEvaluation(int wordCount, BigDecimal calculatedValue, Integer characterCount, Integer sentenceCount,
+                             Integer uniqueWordCount, Integer readingTimeSeconds) {
+}
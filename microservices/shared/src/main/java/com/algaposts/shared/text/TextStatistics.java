@@ -0,0 +1,4 @@
+package com.algaposts.shared.text;
+
+public record TextStatistics(int wordCount, int characterCount, int sentenceCount, int uniqueWordCount) {
+}
@@ -0,0 +1,8 @@
+package com.algaposts.shared.text;
+
+public interface Tokenizer {
+
+    String getName();
+
+    int countWords(String text);
+}
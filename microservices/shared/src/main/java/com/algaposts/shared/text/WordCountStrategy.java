@@ -0,0 +1,9 @@
+package com.algaposts.shared.text;
+
+public interface WordCountStrategy {
+    int countWords(String text);
+
+    default boolean splitsOnWhitespace() {
+        return false;
+    }
+}
\ No newline at end of file
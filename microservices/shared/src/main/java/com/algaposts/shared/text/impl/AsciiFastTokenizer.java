@@ -0,0 +1,112 @@
+package com.algaposts.shared.text.impl;
+
+import com.algaposts.shared.text.Tokenizer;
+import org.springframework.stereotype.Component;
+
+import java.text.BreakIterator;
+
+@Component
+public class AsciiFastTokenizer implements Tokenizer {
+
+    public static final String NAME = "ascii-fast";
+
+    private static final byte OTHER = 0;
+    private static final byte SPACE = 1;
+    private static final byte LETTER = 2;
+    private static final byte DIGIT = 3;
+    private static final byte MID_WORD = 4;
+    private static final byte MID_NUM = 5;
+    private static final byte MID_BOTH = 6;
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (int c = 0; c <= ' '; c++) {
+            CLASSES[c] = SPACE;
+        }
+        CLASSES[0x7F] = SPACE;
+        for (int c = 'a'; c <= 'z'; c++) {
+            CLASSES[c] = LETTER;
+            CLASSES[c - 'a' + 'A'] = LETTER;
+        }
+        for (int c = '0'; c <= '9'; c++) {
+            CLASSES[c] = DIGIT;
+        }
+        CLASSES['-'] = MID_WORD;
+        CLASSES['_'] = MID_WORD;
+        CLASSES[','] = MID_NUM;
+        CLASSES['.'] = MID_BOTH;
+        CLASSES['\''] = MID_BOTH;
+        CLASSES['"'] = MID_BOTH;
+    }
+
+    private final UnicodeWordTokenizer unicodeWordTokenizer;
+
+    public AsciiFastTokenizer(UnicodeWordTokenizer unicodeWordTokenizer) {
+        this.unicodeWordTokenizer = unicodeWordTokenizer;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int countWords(String text) {
+        if (text == null) {
+            return 0;
+        }
+        int length = text.length();
+        int words = 0;
+        int wordsBeforeSpace = 0;
+        int afterSpace = 0;
+        byte previous = SPACE;
+        BreakIterator boundaries = null;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 128) {
+                int nextSpace = nextSpace(text, i + 1);
+                if (boundaries == null) {
+                    boundaries = unicodeWordTokenizer.newBreakIterator();
+                }
+                words = wordsBeforeSpace + unicodeWordTokenizer.countWords(text, afterSpace, nextSpace, boundaries);
+                i = nextSpace;
+                c = i < length ? text.charAt(i) : ' ';
+            }
+            byte current = CLASSES[c];
+            if (current == SPACE) {
+                wordsBeforeSpace = words;
+                afterSpace = i + 1;
+            } else if ((current == LETTER || current == DIGIT) && !continuesWord(text, i, current, previous)) {
+                words++;
+            }
+            previous = current;
+        }
+        return words;
+    }
+
+    private static int nextSpace(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 128 && CLASSES[c] == SPACE) {
+                return i;
+            }
+        }
+        return text.length();
+    }
+
+    private static boolean continuesWord(String text, int index, byte current, byte previous) {
+        if (previous == LETTER || previous == DIGIT) {
+            return true;
+        }
+        if (index < 2 || text.charAt(index - 2) >= 128) {
+            return false;
+        }
+        byte beforePunctuation = CLASSES[text.charAt(index - 2)];
+        if (beforePunctuation != current) {
+            return false;
+        }
+        return current == LETTER
+                ? previous == MID_WORD || previous == MID_BOTH
+                : previous == MID_NUM || previous == MID_BOTH;
+    }
+}
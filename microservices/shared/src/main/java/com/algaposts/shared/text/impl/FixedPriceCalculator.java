@@ -1,7 +1,7 @@
 
-package com.algaposts.text_processor.domain.service.impl;
+package com.algaposts.shared.text.impl;
 
-import com.algaposts.text_processor.domain.service.PriceCalculator;
+import com.algaposts.shared.text.PriceCalculator;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
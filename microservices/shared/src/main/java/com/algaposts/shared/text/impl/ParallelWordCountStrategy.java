@@ -0,0 +1,100 @@
+package com.algaposts.shared.text.impl;
+
+import com.algaposts.shared.text.WordCountStrategy;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+@Component
+@ConditionalOnProperty(name = "text-processor.word-count.strategy", havingValue = "parallel")
+public class ParallelWordCountStrategy implements WordCountStrategy {
+
+    private final StreamingWordCountStrategy sequential = new StreamingWordCountStrategy();
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int chunkSize;
+
+    public ParallelWordCountStrategy(@Value("${text-processor.word-count.parallel.threshold:1000000}") int threshold,
+                                     @Value("${text-processor.word-count.parallel.chunk-size:65536}") int chunkSize,
+                                     @Value("${text-processor.word-count.parallel.parallelism:0}") int parallelism) {
+        this.threshold = threshold;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public boolean splitsOnWhitespace() {
+        return true;
+    }
+
+    @Override
+    public int countWords(String text) {
+        if (text == null || text.length() < threshold) {
+            return sequential.countWords(text);
+        }
+
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return 0;
+        }
+        return pool.invoke(new CountTask(text, start, start, end, chunkSize));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    static int countWordStarts(String text, int regionStart, int from, int to) {
+        int words = 0;
+        boolean afterSeparator = from == regionStart || StreamingWordCountStrategy.isSeparator(text.charAt(from - 1));
+        for (int i = from; i < to; i++) {
+            boolean separator = StreamingWordCountStrategy.isSeparator(text.charAt(i));
+            if (!separator && afterSeparator) {
+                words++;
+            }
+            afterSeparator = separator;
+        }
+        return words;
+    }
+
+    private static final class CountTask extends RecursiveTask<Integer> {
+
+        private final String text;
+        private final int regionStart;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        private CountTask(String text, int regionStart, int from, int to, int chunkSize) {
+            this.text = text;
+            this.regionStart = regionStart;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= chunkSize) {
+                return countWordStarts(text, regionStart, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            CountTask right = new CountTask(text, regionStart, middle, to, chunkSize);
+            right.fork();
+            int left = new CountTask(text, regionStart, from, middle, chunkSize).compute();
+            return left + right.join();
+        }
+    }
+}
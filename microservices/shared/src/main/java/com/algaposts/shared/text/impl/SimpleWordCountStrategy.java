@@ -1,12 +1,19 @@
-package com.algaposts.text_processor.domain.service.impl;
+package com.algaposts.shared.text.impl;
 
-import com.algaposts.text_processor.domain.service.WordCountStrategy;
+import com.algaposts.shared.text.WordCountStrategy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 @Component
+@ConditionalOnProperty(name = "text-processor.word-count.strategy", havingValue = "simple")
 public class SimpleWordCountStrategy implements WordCountStrategy {
     
+    @Override
+    public boolean splitsOnWhitespace() {
+        return true;
+    }
+
     @Override
     public int countWords(String text) {
         if (!StringUtils.hasText(text)) {
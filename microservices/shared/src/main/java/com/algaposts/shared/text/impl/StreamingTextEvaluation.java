@@ -0,0 +1,67 @@
+package com.algaposts.shared.text.impl;
+
+import com.algaposts.shared.text.TextEvaluation;
+import com.algaposts.shared.text.TextStatistics;
+
+import java.util.Optional;
+
+public class StreamingTextEvaluation {
+
+    private final TextEvaluator textEvaluator;
+    private final Optional<TextAnalyzer.Analysis> analysis;
+    private final boolean countWithStrategy;
+    private final int chunkSize;
+    private final StringBuilder chunk;
+    private int words;
+    private boolean afterText;
+    private boolean afterSeparator;
+    private TextEvaluation evaluation;
+
+    StreamingTextEvaluation(TextEvaluator textEvaluator, Optional<TextAnalyzer.Analysis> analysis,
+                            boolean countWithStrategy, int chunkSize) {
+        this.textEvaluator = textEvaluator;
+        this.analysis = analysis;
+        this.countWithStrategy = countWithStrategy;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.chunk = new StringBuilder(Math.min(this.chunkSize, 8192));
+    }
+
+    public void accept(char c) {
+        if (evaluation != null) {
+            throw new IllegalStateException("Avaliação já finalizada");
+        }
+        if (StreamingWordCountStrategy.isSeparator(c)) {
+            afterSeparator = true;
+        } else {
+            boolean whitespace = Character.isWhitespace(c);
+            if (!whitespace && afterText && afterSeparator && chunk.length() >= chunkSize) {
+                flush();
+            }
+            afterText = !whitespace;
+            afterSeparator = false;
+        }
+        chunk.append(c);
+    }
+
+    public TextEvaluation finish() {
+        if (evaluation == null) {
+            flush();
+            Optional<TextStatistics> statistics = analysis.map(TextAnalyzer.Analysis::statistics);
+            int wordCount = countWithStrategy ? words : statistics.orElseThrow().wordCount();
+            evaluation = textEvaluator.evaluation(wordCount, statistics);
+        }
+        return evaluation;
+    }
+
+    private void flush() {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        String text = chunk.toString();
+        analysis.ifPresent(a -> a.add(text));
+        if (countWithStrategy) {
+            words += textEvaluator.countWords(text);
+        }
+        chunk.setLength(0);
+    }
+}
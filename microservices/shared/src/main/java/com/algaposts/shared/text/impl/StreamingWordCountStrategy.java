@@ -0,0 +1,52 @@
+package com.algaposts.shared.text.impl;
+
+import com.algaposts.shared.text.WordCountStrategy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "text-processor.word-count.strategy", havingValue = "streaming", matchIfMissing = true)
+public class StreamingWordCountStrategy implements WordCountStrategy {
+
+    @Override
+    public boolean splitsOnWhitespace() {
+        return true;
+    }
+
+    @Override
+    public int countWords(String text) {
+        if (text == null) {
+            return 0;
+        }
+
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return 0;
+        }
+
+        int words = 1;
+        boolean inSeparator = false;
+        for (int i = start; i < end; i++) {
+            if (isSeparator(text.charAt(i))) {
+                if (!inSeparator) {
+                    words++;
+                    inSeparator = true;
+                }
+            } else {
+                inSeparator = false;
+            }
+        }
+        return words;
+    }
+
+    static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,123 @@
+package com.algaposts.shared.text.impl;
+
+import com.algaposts.shared.text.TextStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "text-processor.statistics.enabled", havingValue = "true")
+public class TextAnalyzer {
+
+    private static final int HLL_PRECISION = 10;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final int wordsPerMinute;
+
+    public TextAnalyzer(@Value("${text-processor.statistics.words-per-minute:200}") int wordsPerMinute) {
+        this.wordsPerMinute = Math.max(1, wordsPerMinute);
+    }
+
+    public TextStatistics analyze(String text) {
+        Analysis analysis = newAnalysis();
+        analysis.add(text);
+        return analysis.statistics();
+    }
+
+    public Analysis newAnalysis() {
+        return new Analysis();
+    }
+
+    public int readingTimeSeconds(int wordCount) {
+        return (int) Math.ceil(wordCount * 60.0 / wordsPerMinute);
+    }
+
+    public static final class Analysis {
+
+        private final HyperLogLog uniqueWords = new HyperLogLog(HLL_PRECISION);
+        private int characters;
+        private int words;
+        private int sentences;
+        private boolean sentenceHasContent;
+
+        private Analysis() {
+        }
+
+        public void add(String text) {
+            if (text == null) {
+                return;
+            }
+            int length = text.length();
+            int start = 0;
+            int end = length;
+            while (start < end && Character.isWhitespace(text.charAt(start))) {
+                start++;
+            }
+            while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+                end--;
+            }
+
+            characters += start + (length - end);
+            boolean inWord = false;
+            long wordHash = FNV_OFFSET;
+            boolean wordHasContent = false;
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                if (!Character.isLowSurrogate(c)) {
+                    characters++;
+                }
+                if (StreamingWordCountStrategy.isSeparator(c)) {
+                    if (inWord && wordHasContent) {
+                        uniqueWords.add(mix(wordHash));
+                    }
+                    inWord = false;
+                    continue;
+                }
+                if (!inWord) {
+                    inWord = true;
+                    words++;
+                    wordHash = FNV_OFFSET;
+                    wordHasContent = false;
+                }
+                if (Character.isLetterOrDigit(c)) {
+                    wordHash = (wordHash ^ Character.toLowerCase(c)) * FNV_PRIME;
+                    wordHasContent = true;
+                    sentenceHasContent = true;
+                } else if (sentenceHasContent && endsSentence(c, i + 1 < end ? text.charAt(i + 1) : ' ')) {
+                    sentences++;
+                    sentenceHasContent = false;
+                }
+            }
+            if (inWord && wordHasContent) {
+                uniqueWords.add(mix(wordHash));
+            }
+        }
+
+        public TextStatistics statistics() {
+            int totalSentences = sentenceHasContent ? sentences + 1 : sentences;
+            return new TextStatistics(words, characters, totalSentences, (int) Math.min(uniqueWords.estimate(), words));
+        }
+    }
+
+    private static boolean endsSentence(char c, char next) {
+        return switch (c) {
+            case '。', '！', '？' -> true;
+            case '.', '!', '?', '…' -> Character.isWhitespace(next) || isTerminator(next);
+            default -> false;
+        };
+    }
+
+    private static boolean isTerminator(char c) {
+        return c == '.' || c == '!' || c == '?' || c == '…' || c == '。' || c == '！' || c == '？';
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
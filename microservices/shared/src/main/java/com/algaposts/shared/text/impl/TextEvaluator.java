@@ -0,0 +1,59 @@
+package com.algaposts.shared.text.impl;
+
+import com.algaposts.shared.text.PriceCalculator;
+import com.algaposts.shared.text.TextEvaluation;
+import com.algaposts.shared.text.TextStatistics;
+import com.algaposts.shared.text.WordCountStrategy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+@Component
+@RequiredArgsConstructor
+public class TextEvaluator {
+
+    private static final int STREAM_CHUNK_SIZE = 65_536;
+
+    private final WordCountStrategy wordCountStrategy;
+    private final PriceCalculator priceCalculator;
+    private final Optional<TextAnalyzer> textAnalyzer;
+
+    public TextEvaluation evaluate(String text) {
+        return evaluate(text, TextAnalyzer::analyze, wordCountStrategy::countWords, true);
+    }
+
+    public TextEvaluation evaluate(String text, BiFunction<TextAnalyzer, String, TextStatistics> analyze,
+                                   ToIntFunction<String> wordCounter, boolean configuredCounter) {
+        Optional<TextStatistics> statistics = textAnalyzer.map(analyzer -> analyze.apply(analyzer, text));
+        int wordCount = statistics
+                .filter(s -> configuredCounter && wordCountStrategy.splitsOnWhitespace())
+                .map(TextStatistics::wordCount)
+                .orElseGet(() -> wordCounter.applyAsInt(text));
+        return evaluation(wordCount, statistics);
+    }
+
+    public StreamingTextEvaluation startEvaluation() {
+        return startEvaluation(STREAM_CHUNK_SIZE);
+    }
+
+    StreamingTextEvaluation startEvaluation(int chunkSize) {
+        return new StreamingTextEvaluation(this, textAnalyzer.map(TextAnalyzer::newAnalysis),
+                textAnalyzer.isEmpty() || !wordCountStrategy.splitsOnWhitespace(), chunkSize);
+    }
+
+    public int countWords(String text) {
+        return wordCountStrategy.countWords(text);
+    }
+
+    TextEvaluation evaluation(int wordCount, Optional<TextStatistics> statistics) {
+        BigDecimal calculatedValue = priceCalculator.calculatePrice(wordCount);
+        return statistics
+                .map(s -> new TextEvaluation(wordCount, calculatedValue, s.characterCount(), s.sentenceCount(),
+                        Math.min(s.uniqueWordCount(), wordCount), textAnalyzer.get().readingTimeSeconds(wordCount)))
+                .orElseGet(() -> new TextEvaluation(wordCount, calculatedValue, null, null, null, null));
+    }
+}
@@ -0,0 +1,29 @@
+package com.algaposts.shared.text.impl;
+
+import com.algaposts.shared.text.Tokenizer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class TokenizerRegistry {
+
+    private final Map<String, Tokenizer> tokenizers;
+
+    public TokenizerRegistry(List<Tokenizer> tokenizers) {
+        this.tokenizers = tokenizers.stream().collect(Collectors.toUnmodifiableMap(Tokenizer::getName, Function.identity()));
+    }
+
+    public Optional<Tokenizer> find(String name) {
+        return Optional.ofNullable(name).map(tokenizers::get);
+    }
+
+    public Tokenizer get(String name) {
+        return find(name).orElseThrow(() ->
+                new IllegalArgumentException("Tokenizer desconhecido: " + name + ", disponíveis: " + tokenizers.keySet()));
+    }
+}
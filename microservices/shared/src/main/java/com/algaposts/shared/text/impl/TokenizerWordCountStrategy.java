@@ -0,0 +1,24 @@
+package com.algaposts.shared.text.impl;
+
+import com.algaposts.shared.text.Tokenizer;
+import com.algaposts.shared.text.WordCountStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "text-processor.word-count.strategy", havingValue = "tokenizer")
+public class TokenizerWordCountStrategy implements WordCountStrategy {
+
+    private final Tokenizer tokenizer;
+
+    public TokenizerWordCountStrategy(TokenizerRegistry tokenizerRegistry,
+                                      @Value("${text-processor.word-count.tokenizer:ascii-fast}") String tokenizer) {
+        this.tokenizer = tokenizerRegistry.get(tokenizer);
+    }
+
+    @Override
+    public int countWords(String text) {
+        return tokenizer.countWords(text);
+    }
+}
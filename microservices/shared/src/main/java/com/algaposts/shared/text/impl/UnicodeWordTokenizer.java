@@ -0,0 +1,65 @@
+package com.algaposts.shared.text.impl;
+
+import com.algaposts.shared.text.Tokenizer;
+import org.springframework.stereotype.Component;
+
+import java.text.BreakIterator;
+import java.text.StringCharacterIterator;
+import java.util.Locale;
+
+@Component
+public class UnicodeWordTokenizer implements Tokenizer {
+
+    public static final String NAME = "unicode";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int countWords(String text) {
+        return text == null ? 0 : countWords(text, 0, text.length());
+    }
+
+    public int countWords(String text, int from, int to) {
+        return from >= to ? 0 : countWords(text, from, to, newBreakIterator());
+    }
+
+    BreakIterator newBreakIterator() {
+        return BreakIterator.getWordInstance(Locale.ROOT);
+    }
+
+    int countWords(String text, int from, int to, BreakIterator boundaries) {
+        boundaries.setText(new StringCharacterIterator(text, from, to, from));
+        int words = 0;
+        int start = boundaries.first();
+        for (int end = boundaries.next(); end != BreakIterator.DONE; start = end, end = boundaries.next()) {
+            words += countSegment(text, start, end);
+        }
+        return words;
+    }
+
+    private static int countSegment(String text, int start, int end) {
+        int ideographs = 0;
+        boolean word = false;
+        for (int i = start; i < end; ) {
+            int codePoint = text.codePointAt(i);
+            if (Character.isIdeographic(codePoint)) {
+                ideographs++;
+            } else if (!word && isWordCharacter(codePoint)) {
+                word = true;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return ideographs + (word ? 1 : 0);
+    }
+
+    private static boolean isWordCharacter(int codePoint) {
+        if (Character.isLetterOrDigit(codePoint)) {
+            return true;
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.LETTER_NUMBER || type == Character.OTHER_NUMBER;
+    }
+}
@@ -0,0 +1,22 @@
+package com.algaposts.shared.text.impl;
+
+import com.algaposts.shared.text.Tokenizer;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WhitespaceTokenizer implements Tokenizer {
+
+    public static final String NAME = "whitespace";
+
+    private final StreamingWordCountStrategy delegate = new StreamingWordCountStrategy();
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int countWords(String text) {
+        return delegate.countWords(text);
+    }
+}
@@ -0,0 +1,143 @@
+package com.algaposts.shared.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveConcurrencyControllerTest {
+
+    @Mock
+    private RabbitListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private AmqpAdmin amqpAdmin;
+
+    @Mock
+    private SimpleMessageListenerContainer container;
+
+    private MeterRegistry meterRegistry;
+    private AdaptiveConcurrencyController controller;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        controller = controller(2.0);
+    }
+
+    @Test
+    void shouldBindSettingsWithDefaults() {
+
+        var source = new MapConfigurationPropertySource(Map.of("svc.adaptive-concurrency.max-consumers", "32"));
+
+        AdaptiveConcurrencySettings settings = new Binder(source)
+                .bindOrCreate("svc.adaptive-concurrency", AdaptiveConcurrencySettings.class);
+
+        assertEquals(32, settings.maxConsumers());
+        assertEquals(1, settings.minConsumers());
+        assertEquals(0.85, settings.cpuHigh());
+        assertEquals(60000, settings.prefetchCooldownMs());
+    }
+
+    @Test
+    void shouldScaleUpOnBacklogAndDownWhenOverloaded() {
+
+        assertEquals(3, controller.nextConsumers(2, 1000, 10, 0.1, 4));
+        assertEquals(8, controller.nextConsumers(8, 1000, 10, 0.1, 4));
+        assertEquals(6, controller.nextConsumers(8, 20, 500, 0.1, 4));
+        assertEquals(1, controller.nextConsumers(2, 0, 10, 0.1, 4));
+        assertEquals(2, controller.nextConsumers(2, 5, 10, 0.1, 4));
+
+        controller = controller(0.85);
+        assertEquals(3, controller.nextConsumers(4, 10, 10, 0.9, 4));
+    }
+
+    @Test
+    void shouldNotScaleDownWhileQueueHasBacklog() {
+
+        assertEquals(8, controller.nextConsumers(8, 1000, 500, 0.1, 4));
+
+        controller = controller(0.85);
+        assertEquals(4, controller.nextConsumers(4, 1000, 10, 0.9, 4));
+    }
+
+    @Test
+    void shouldSizePrefetchFromLatencyWithHysteresis() {
+
+        assertEquals(100, controller.nextPrefetch(4, 10));
+        assertEquals(250, controller.nextPrefetch(4, 0.5));
+        assertEquals(4, controller.nextPrefetch(4, 300));
+        assertEquals(2, controller.nextPrefetch(4, 600));
+        assertEquals(4, controller.nextPrefetch(4, 0));
+    }
+
+    @Test
+    void shouldApplyDecisionsWithoutRestartingContainerAndExposeMetrics() {
+
+        when(listenerRegistry.getListenerContainers()).thenReturn(List.of(container));
+        when(container.isRunning()).thenReturn(true);
+        when(container.getListenerId()).thenReturn("listener");
+        when(container.getActiveConsumerCount()).thenReturn(2);
+        when(container.getQueueNames()).thenReturn(new String[]{"queue"});
+        when(amqpAdmin.getQueueInfo("queue")).thenReturn(new QueueInformation("queue", 1000, 2));
+        Timer.builder(AdaptiveConcurrencyController.LISTENER_TIMER).tag("listener.id", "listener")
+                .register(meterRegistry).record(Duration.ofMillis(10));
+
+        controller.adjust(1_000);
+
+        verify(container).setConcurrentConsumers(3);
+        verify(container).setPrefetchCount(100);
+        verify(container, never()).stop();
+        verify(container, never()).start();
+        assertEquals(3, meterRegistry.get("rabbitmq.listener.adaptive.consumers").tag("listener.id", "listener").gauge().value());
+        assertEquals(100, meterRegistry.get("rabbitmq.listener.adaptive.prefetch").gauge().value());
+        assertEquals(1000, meterRegistry.get("rabbitmq.listener.adaptive.queue.depth").gauge().value());
+        assertEquals(1, meterRegistry.get("rabbitmq.listener.adaptive.adjustments").tag("parameter", "consumers").counter().count());
+    }
+
+    @Test
+    void shouldLimitHowOftenPrefetchChanges() {
+
+        when(listenerRegistry.getListenerContainers()).thenReturn(List.of(container));
+        when(container.isRunning()).thenReturn(true);
+        when(container.getListenerId()).thenReturn("listener");
+        when(container.getQueueNames()).thenReturn(new String[]{"queue"});
+        when(amqpAdmin.getQueueInfo("queue")).thenReturn(new QueueInformation("queue", 0, 1));
+        Timer timer = Timer.builder(AdaptiveConcurrencyController.LISTENER_TIMER).tag("listener.id", "listener")
+                .register(meterRegistry);
+
+        timer.record(Duration.ofMillis(10));
+        controller.adjust(1_000);
+        timer.record(Duration.ofMillis(1000));
+        timer.record(Duration.ofMillis(1000));
+        controller.adjust(30_000);
+        controller.adjust(61_000);
+
+        verify(container).setPrefetchCount(100);
+        verify(container).setPrefetchCount(4);
+        assertEquals(2, meterRegistry.get("rabbitmq.listener.adaptive.adjustments").tag("parameter", "prefetch").counter().count());
+    }
+
+    private AdaptiveConcurrencyController controller(double cpuHigh) {
+        var settings = new AdaptiveConcurrencySettings(1, 8, 1, 250, 1000, 200, cpuHigh, 5000, 60000);
+        return new AdaptiveConcurrencyController(listenerRegistry, amqpAdmin, meterRegistry, settings, 4);
+    }
+}
@@ -0,0 +1,69 @@
+package com.algaposts.shared.text.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsciiFastTokenizerTest {
+
+    private static final String ALPHABET = "aZb09-_.,'\"$#%&^:;!?/@ \t\n\r";
+    private static final String[] NON_ASCII = {"é", "中", "😀", "\u0301", "ß ", " ñ"};
+
+    private UnicodeWordTokenizer unicodeWordTokenizer;
+    private AsciiFastTokenizer asciiFastTokenizer;
+
+    @BeforeEach
+    void setUp() {
+        unicodeWordTokenizer = new UnicodeWordTokenizer();
+        asciiFastTokenizer = new AsciiFastTokenizer(unicodeWordTokenizer);
+    }
+
+    @Test
+    void shouldReturnZeroForNullOrBlankText() {
+
+        assertEquals(0, asciiFastTokenizer.countWords(null));
+        assertEquals(0, asciiFastTokenizer.countWords(""));
+        assertEquals(0, asciiFastTokenizer.countWords(" \t\n "));
+    }
+
+    @Test
+    void shouldCountAsciiWordsLikeUnicodeTokenizer() {
+
+        String text = "don't stop: e-mail foo_bar a:b 1,000 a,b x.y. ab12cd $100 50% #tag ... --";
+
+        int result = asciiFastTokenizer.countWords(text);
+
+        assertEquals(unicodeWordTokenizer.countWords(text), result);
+        assertEquals(14, result);
+    }
+
+    @Test
+    void shouldCountOnlyNonAsciiRegionsWithUnicodeTokenizer() {
+
+        assertEquals(6, asciiFastTokenizer.countWords("Hello, world 中文测试"));
+        assertEquals(5, asciiFastTokenizer.countWords("post sobre coração e pão"));
+        assertEquals(4, asciiFastTokenizer.countWords("naïve text, 日本 !!"));
+    }
+
+    @Test
+    void shouldMatchUnicodeTokenizerForRandomTexts() {
+
+        Random random = new Random(42);
+        for (int sample = 0; sample < 100_000; sample++) {
+            StringBuilder builder = new StringBuilder();
+            int length = 1 + random.nextInt(12);
+            for (int i = 0; i < length; i++) {
+                builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            for (int i = random.nextInt(4); i > 0; i--) {
+                builder.insert(random.nextInt(builder.length() + 1), NON_ASCII[random.nextInt(NON_ASCII.length)]);
+            }
+            String text = builder.toString();
+
+            assertEquals(unicodeWordTokenizer.countWords(text), asciiFastTokenizer.countWords(text), () -> "Texto: [" + text + "]");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.algaposts.shared.text.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelWordCountStrategyTest {
+
+    private ParallelWordCountStrategy parallelWordCountStrategy;
+    private StreamingWordCountStrategy streamingWordCountStrategy;
+
+    @BeforeEach
+    void setUp() {
+        parallelWordCountStrategy = new ParallelWordCountStrategy(0, 3, 4);
+        streamingWordCountStrategy = new StreamingWordCountStrategy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelWordCountStrategy.shutdown();
+    }
+
+    @Test
+    void shouldCountWordsSplitAcrossChunks() {
+
+        String text = "Hello wonderful world of words";
+
+        int result = parallelWordCountStrategy.countWords(text);
+
+        assertEquals(5, result);
+    }
+
+    @Test
+    void shouldReturnZeroForNullEmptyAndWhitespaceOnlyText() {
+
+        assertEquals(0, parallelWordCountStrategy.countWords(null));
+        assertEquals(0, parallelWordCountStrategy.countWords(""));
+        assertEquals(0, parallelWordCountStrategy.countWords("   \t\n    "));
+    }
+
+    @Test
+    void shouldMatchSequentialStrategyOnEdgeCases() {
+
+        String[] texts = {
+                "   Hello   ",
+                "Hello world",
+                "Hello world test",
+                "\u001F Hello \u001C",
+                "\u000BHello\fworld\r\n",
+                "Olá, mundo! 你好 世界 😀 emoji",
+                "a b  c   d\t\te",
+                "abcdefghijklmnopqrstuvwxyz",
+                "a"
+        };
+
+        for (String text : texts) {
+            assertEquals(streamingWordCountStrategy.countWords(text), parallelWordCountStrategy.countWords(text), text);
+        }
+    }
+
+    @Test
+    void shouldMatchSequentialStrategyOnRandomTextsAndChunkSizes() {
+
+        char[] alphabet = {'a', 'b', ' ', '\t', '\n', '\r', '\f', '\u000B', ' ', ' ', 'é'};
+        Random random = new Random(42);
+
+        for (int round = 0; round < 200; round++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(2_000);
+            for (int i = 0; i < length; i++) {
+                text.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            var strategy = new ParallelWordCountStrategy(0, 1 + random.nextInt(64), 4);
+            try {
+                assertEquals(streamingWordCountStrategy.countWords(text.toString()),
+                        strategy.countWords(text.toString()), "round " + round);
+            } finally {
+                strategy.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void shouldCountSequentiallyBelowThreshold() {
+
+        var strategy = new ParallelWordCountStrategy(1_000, 3, 4);
+        try {
+            assertEquals(3, strategy.countWords("Hello world test"));
+        } finally {
+            strategy.shutdown();
+        }
+    }
+}
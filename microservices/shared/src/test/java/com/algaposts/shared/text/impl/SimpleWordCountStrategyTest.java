@@ -1,4 +1,4 @@
-package com.algaposts.text_processor.domain.service.impl;
+package com.algaposts.shared.text.impl;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
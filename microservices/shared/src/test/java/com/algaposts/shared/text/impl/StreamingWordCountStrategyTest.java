@@ -0,0 +1,135 @@
+package com.algaposts.shared.text.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingWordCountStrategyTest {
+
+    private StreamingWordCountStrategy streamingWordCountStrategy;
+
+    @BeforeEach
+    void setUp() {
+        streamingWordCountStrategy = new StreamingWordCountStrategy();
+    }
+
+    @Test
+    void shouldCountWordsInSimpleText() {
+
+        String text = "Hello world";
+
+        int result = streamingWordCountStrategy.countWords(text);
+
+        assertEquals(2, result);
+    }
+
+    @Test
+    void shouldReturnZeroForNullText() {
+
+        String text = null;
+
+        int result = streamingWordCountStrategy.countWords(text);
+
+        assertEquals(0, result);
+    }
+
+    @Test
+    void shouldReturnZeroForEmptyText() {
+
+        String text = "";
+
+        int result = streamingWordCountStrategy.countWords(text);
+
+        assertEquals(0, result);
+    }
+
+    @Test
+    void shouldReturnZeroForWhitespaceOnlyText() {
+
+        String text = "   \t\n  ";
+
+        int result = streamingWordCountStrategy.countWords(text);
+
+        assertEquals(0, result);
+    }
+
+    @Test
+    void shouldCountWordsWithMultipleSpaces() {
+
+        String text = "Hello    world    test";
+
+        int result = streamingWordCountStrategy.countWords(text);
+
+        assertEquals(3, result);
+    }
+
+    @Test
+    void shouldCountWordsWithLeadingAndTrailingSpaces() {
+
+        String text = "  Hello world  ";
+
+        int result = streamingWordCountStrategy.countWords(text);
+
+        assertEquals(2, result);
+    }
+
+    @Test
+    void shouldCountWordsWithNewlinesAndTabs() {
+
+        String text = "Hello\nworld\ttest";
+
+        int result = streamingWordCountStrategy.countWords(text);
+
+        assertEquals(3, result);
+    }
+
+    @Test
+    void shouldCountSingleWord() {
+
+        String text = "Hello";
+
+        int result = streamingWordCountStrategy.countWords(text);
+
+        assertEquals(1, result);
+    }
+
+    @Test
+    void shouldCountWordsInLongText() {
+
+        String text = "Lorem ipsum dolor sit amet consectetur adipiscing elit sed do eiusmod tempor incididunt";
+
+        int result = streamingWordCountStrategy.countWords(text);
+
+        assertEquals(13, result);
+    }
+
+    @Test
+    void shouldCountWordsWithPunctuation() {
+
+        String text = "Hello, world! How are you?";
+
+        int result = streamingWordCountStrategy.countWords(text);
+
+        assertEquals(5, result);
+    }
+
+    @Test
+    void shouldMatchSimpleStrategyOnEdgeCases() {
+
+        SimpleWordCountStrategy simpleWordCountStrategy = new SimpleWordCountStrategy();
+        String[] texts = {
+                " \u2003 Hello \u2003 ",
+                "Hello\u00A0world",
+                "Hello\u2003world test",
+                "\u001F Hello \u001C",
+                "\u000BHello\fworld\r\n",
+                "Olá, mundo! 你好 世界 😀 emoji",
+                "a b  c   d\t\te"
+        };
+
+        for (String text : texts) {
+            assertEquals(simpleWordCountStrategy.countWords(text), streamingWordCountStrategy.countWords(text), text);
+        }
+    }
+}
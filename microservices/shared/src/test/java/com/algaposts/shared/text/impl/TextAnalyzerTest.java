@@ -0,0 +1,103 @@
+package com.algaposts.shared.text.impl;
+
+import com.algaposts.shared.text.TextStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextAnalyzerTest {
+
+    private TextAnalyzer textAnalyzer;
+
+    @BeforeEach
+    void setUp() {
+        textAnalyzer = new TextAnalyzer(200);
+    }
+
+    @Test
+    void shouldComputeAllStatisticsOfText() {
+
+        TextStatistics statistics = textAnalyzer.analyze("O gato subiu. O gato desceu! Fim?");
+
+        assertEquals(7, statistics.wordCount());
+        assertEquals(33, statistics.characterCount());
+        assertEquals(3, statistics.sentenceCount());
+        assertEquals(5, statistics.uniqueWordCount());
+    }
+
+    @Test
+    void shouldReturnZeroStatisticsForNullAndBlankText() {
+
+        assertEquals(new TextStatistics(0, 0, 0, 0), textAnalyzer.analyze(null));
+        assertEquals(new TextStatistics(0, 3, 0, 0), textAnalyzer.analyze(" \n\t"));
+    }
+
+    @Test
+    void shouldNotSplitSentencesOnDecimalsEllipsisOrTrailingPunctuationRuns() {
+
+        TextStatistics statistics = textAnalyzer.analyze("Custa 3.50 reais... Sério?! Sim");
+
+        assertEquals(3, statistics.sentenceCount());
+    }
+
+    @Test
+    void shouldCountCjkSentencesAndCodePoints() {
+
+        TextStatistics statistics = textAnalyzer.analyze("你好。世界！😀");
+
+        assertEquals(7, statistics.characterCount());
+        assertEquals(2, statistics.sentenceCount());
+        assertEquals(1, statistics.wordCount());
+    }
+
+    @Test
+    void shouldIgnoreCaseAndPunctuationForUniqueWords() {
+
+        TextStatistics statistics = textAnalyzer.analyze("Casa casa, CASA! -- casa.");
+
+        assertEquals(5, statistics.wordCount());
+        assertEquals(1, statistics.uniqueWordCount());
+    }
+
+    @Test
+    void shouldEstimateUniqueWordsWithinErrorBound() {
+
+        var text = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            text.append("palavra").append(i % 20_000).append(' ');
+        }
+
+        int unique = textAnalyzer.analyze(text.toString()).uniqueWordCount();
+
+        assertEquals(20_000, unique, 20_000 * 0.1);
+    }
+
+    @Test
+    void shouldMatchStreamingWordCount() {
+
+        var streaming = new StreamingWordCountStrategy();
+        var random = new Random(42);
+        char[] alphabet = {'a', 'B', '1', ' ', '\t', '\n', ' ', ' ', '.', '!', 'é'};
+        for (int n = 0; n < 1_000; n++) {
+            char[] chars = new char[random.nextInt(40)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = alphabet[random.nextInt(alphabet.length)];
+            }
+            String text = new String(chars);
+
+            assertEquals(streaming.countWords(text), textAnalyzer.analyze(text).wordCount(), text);
+        }
+    }
+
+    @Test
+    void shouldRoundReadingTimeUp() {
+
+        assertEquals(0, textAnalyzer.readingTimeSeconds(0));
+        assertEquals(1, textAnalyzer.readingTimeSeconds(1));
+        assertEquals(60, textAnalyzer.readingTimeSeconds(200));
+        assertEquals(61, textAnalyzer.readingTimeSeconds(201));
+    }
+}
@@ -0,0 +1,107 @@
+package com.algaposts.shared.text.impl;
+
+import com.algaposts.shared.text.TextEvaluation;
+import com.algaposts.shared.text.WordCountStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextEvaluatorTest {
+
+    private FixedPriceCalculator priceCalculator;
+
+    @BeforeEach
+    void setUp() {
+        priceCalculator = new FixedPriceCalculator();
+        ReflectionTestUtils.setField(priceCalculator, "pricePerWord", new BigDecimal("0.10"));
+    }
+
+    @Test
+    void shouldCountAndPriceWithoutStatisticsWhenAnalyzerIsDisabled() {
+
+        TextEvaluator evaluator = new TextEvaluator(new StreamingWordCountStrategy(), priceCalculator, Optional.empty());
+
+        TextEvaluation evaluation = evaluator.evaluate("Olá mundo. Olá de novo");
+
+        assertEquals(new TextEvaluation(5, new BigDecimal("0.50"), null, null, null, null), evaluation);
+    }
+
+    @Test
+    void shouldComputeStatisticsWithBilledWordCount() {
+
+        TextEvaluator evaluator = new TextEvaluator(new StreamingWordCountStrategy(), priceCalculator,
+                Optional.of(new TextAnalyzer(120)));
+
+        TextEvaluation evaluation = evaluator.evaluate("Olá mundo. Olá de novo");
+
+        assertEquals(new TextEvaluation(5, new BigDecimal("0.50"), 22, 2, 4, 3), evaluation);
+    }
+
+    @Test
+    void shouldBillWithTokenizerStrategyEvenWhenStatisticsAreEnabled() {
+
+        UnicodeWordTokenizer unicode = new UnicodeWordTokenizer();
+        TokenizerRegistry registry = new TokenizerRegistry(List.of(unicode));
+        TextEvaluator evaluator = new TextEvaluator(new TokenizerWordCountStrategy(registry, UnicodeWordTokenizer.NAME),
+                priceCalculator, Optional.of(new TextAnalyzer(200)));
+
+        TextEvaluation evaluation = evaluator.evaluate("hello , world");
+
+        assertEquals(2, evaluation.wordCount());
+        assertEquals(new BigDecimal("0.20"), evaluation.calculatedValue());
+        assertEquals(2, evaluation.uniqueWordCount());
+    }
+
+    @Test
+    void shouldEvaluateStreamedTextExactlyAsWholeText() {
+
+        char[] alphabet = {'a', 'B', 'é', '中', '1', '.', ',', '!', '-', ' ', ' ', ' ', '\t', '\n', '\u2003', '\u001C'};
+        Random random = new Random(42);
+        UnicodeWordTokenizer unicode = new UnicodeWordTokenizer();
+        TokenizerRegistry registry = new TokenizerRegistry(
+                List.of(new WhitespaceTokenizer(), unicode, new AsciiFastTokenizer(unicode)));
+        List<WordCountStrategy> strategies = List.of(
+                new StreamingWordCountStrategy(),
+                new SimpleWordCountStrategy(),
+                new TokenizerWordCountStrategy(registry, AsciiFastTokenizer.NAME),
+                new TokenizerWordCountStrategy(registry, UnicodeWordTokenizer.NAME));
+
+        for (WordCountStrategy strategy : strategies) {
+            for (Optional<TextAnalyzer> analyzer : List.of(Optional.<TextAnalyzer>empty(), Optional.of(new TextAnalyzer(200)))) {
+                TextEvaluator evaluator = new TextEvaluator(strategy, priceCalculator, analyzer);
+                for (int round = 0; round < 300; round++) {
+                    StringBuilder text = new StringBuilder();
+                    int length = random.nextInt(80);
+                    for (int i = 0; i < length; i++) {
+                        text.append(alphabet[random.nextInt(alphabet.length)]);
+                    }
+                    StreamingTextEvaluation streaming = evaluator.startEvaluation(1 + random.nextInt(8));
+                    text.chars().forEach(c -> streaming.accept((char) c));
+
+                    assertEquals(evaluator.evaluate(text.toString()), streaming.finish(), text.toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldSplitStreamedTextOnlyBetweenWords() {
+
+        TextEvaluator evaluator = new TextEvaluator(new StreamingWordCountStrategy(), priceCalculator,
+                Optional.of(new TextAnalyzer(200)));
+        String text = "Fim. Outra frase \u2003 com espaço unicode e palavras repetidas repetidas";
+
+        StreamingTextEvaluation streaming = evaluator.startEvaluation(1);
+        text.chars().forEach(c -> streaming.accept((char) c));
+
+        assertEquals(evaluator.evaluate(text), streaming.finish());
+        assertEquals(11, streaming.finish().wordCount());
+    }
+}
@@ -0,0 +1,38 @@
+package com.algaposts.shared.text.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenizerWordCountStrategyTest {
+
+    private TokenizerRegistry tokenizerRegistry;
+
+    @BeforeEach
+    void setUp() {
+        UnicodeWordTokenizer unicode = new UnicodeWordTokenizer();
+        tokenizerRegistry = new TokenizerRegistry(List.of(new WhitespaceTokenizer(), unicode, new AsciiFastTokenizer(unicode)));
+    }
+
+    @Test
+    void shouldCountWithConfiguredTokenizer() {
+
+        String text = "Hello , world 中文";
+
+        assertEquals(4, new TokenizerWordCountStrategy(tokenizerRegistry, WhitespaceTokenizer.NAME).countWords(text));
+        assertEquals(4, new TokenizerWordCountStrategy(tokenizerRegistry, UnicodeWordTokenizer.NAME).countWords(text));
+        assertEquals(4, new TokenizerWordCountStrategy(tokenizerRegistry, AsciiFastTokenizer.NAME).countWords(text));
+        assertEquals(2, new TokenizerWordCountStrategy(tokenizerRegistry, AsciiFastTokenizer.NAME).countWords("Hello , world"));
+    }
+
+    @Test
+    void shouldFailForUnknownTokenizer() {
+
+        assertThrows(IllegalArgumentException.class, () -> new TokenizerWordCountStrategy(tokenizerRegistry, "desconhecido"));
+        assertTrue(tokenizerRegistry.find("desconhecido").isEmpty());
+        assertTrue(tokenizerRegistry.find(null).isEmpty());
+    }
+}
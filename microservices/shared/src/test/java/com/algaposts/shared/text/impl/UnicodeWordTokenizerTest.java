@@ -0,0 +1,66 @@
+package com.algaposts.shared.text.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnicodeWordTokenizerTest {
+
+    private UnicodeWordTokenizer unicodeWordTokenizer;
+
+    @BeforeEach
+    void setUp() {
+        unicodeWordTokenizer = new UnicodeWordTokenizer();
+    }
+
+    @Test
+    void shouldReturnZeroForNullOrBlankText() {
+
+        assertEquals(0, unicodeWordTokenizer.countWords(null));
+        assertEquals(0, unicodeWordTokenizer.countWords(""));
+        assertEquals(0, unicodeWordTokenizer.countWords(" \t\n "));
+    }
+
+    @Test
+    void shouldNotCountPunctuationOnlyTokens() {
+
+        int result = unicodeWordTokenizer.countWords("Hello , world !!! -- ... ?");
+
+        assertEquals(2, result);
+    }
+
+    @Test
+    void shouldKeepWordInternalPunctuationAndNumbersTogether() {
+
+        int result = unicodeWordTokenizer.countWords("don't e-mail U.S.A. 1,000.50 50% $100");
+
+        assertEquals(6, result);
+    }
+
+    @Test
+    void shouldCountEachIdeographAsWord() {
+
+        assertEquals(4, unicodeWordTokenizer.countWords("中文测试"));
+        assertEquals(5, unicodeWordTokenizer.countWords("日本語のテキスト"));
+        assertEquals(2, unicodeWordTokenizer.countWords("한국어 텍스트"));
+    }
+
+    @Test
+    void shouldNotCountEmojis() {
+
+        int result = unicodeWordTokenizer.countWords("😀 🚀🚀 naïve straße");
+
+        assertEquals(2, result);
+    }
+
+    @Test
+    void shouldCountOnlyRequestedRange() {
+
+        String text = "um dois três quatro";
+
+        int result = unicodeWordTokenizer.countWords(text, 3, 12);
+
+        assertEquals(2, result);
+    }
+}
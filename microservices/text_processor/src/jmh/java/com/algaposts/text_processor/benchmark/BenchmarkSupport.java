@@ -0,0 +1,53 @@
+package com.algaposts.text_processor.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.algaposts.shared.text.WordCountStrategy;
+import com.algaposts.shared.text.impl.AsciiFastTokenizer;
+import com.algaposts.shared.text.impl.FixedPriceCalculator;
+import com.algaposts.shared.text.impl.ParallelWordCountStrategy;
+import com.algaposts.shared.text.impl.SimpleWordCountStrategy;
+import com.algaposts.shared.text.impl.StreamingWordCountStrategy;
+import com.algaposts.shared.text.impl.TokenizerRegistry;
+import com.algaposts.shared.text.impl.UnicodeWordTokenizer;
+import com.algaposts.shared.text.impl.WhitespaceTokenizer;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.List;
+
+final class BenchmarkSupport {
+
+    private static final int PARALLEL_CHUNK_SIZE = 65_536;
+
+    private BenchmarkSupport() {
+    }
+
+    static void quietLogging() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+    }
+
+    static WordCountStrategy wordCountStrategy(String name) {
+        return switch (name) {
+            case "streaming" -> new StreamingWordCountStrategy();
+            case "simple" -> new SimpleWordCountStrategy();
+            case "parallel" -> new ParallelWordCountStrategy(0, PARALLEL_CHUNK_SIZE, 0);
+            default -> throw new IllegalArgumentException("Estratégia desconhecida: " + name);
+        };
+    }
+
+    static TokenizerRegistry tokenizerRegistry() {
+        UnicodeWordTokenizer unicode = new UnicodeWordTokenizer();
+        return new TokenizerRegistry(List.of(new WhitespaceTokenizer(), unicode, new AsciiFastTokenizer(unicode)));
+    }
+
+    static FixedPriceCalculator priceCalculator(String pricePerWord) {
+        FixedPriceCalculator priceCalculator = new FixedPriceCalculator();
+        Field field = ReflectionUtils.findField(FixedPriceCalculator.class, "pricePerWord");
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, priceCalculator, new BigDecimal(pricePerWord));
+        return priceCalculator;
+    }
+}
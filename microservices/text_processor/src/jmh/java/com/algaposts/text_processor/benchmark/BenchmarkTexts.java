@@ -0,0 +1,58 @@
+package com.algaposts.text_processor.benchmark;
+
+import java.util.Random;
+
+final class BenchmarkTexts {
+
+    private static final String[] ASCII_WORDS = {
+            "lorem", "ipsum", "dolor", "sit", "amet,", "consectetur", "adipiscing", "elit.", "sed", "do",
+            "eiusmod", "tempor", "incididunt", "ut", "labore", "et", "dolore", "magna", "aliqua!", "post"
+    };
+
+    private static final String[] UNICODE_WORDS = {
+            "olá", "coração", "ação", "pão", "você", "naïve", "straße", "δοκιμή", "тест", "العربية",
+            "日本語", "中文", "한국어", "😀", "🚀🚀", "é", "ñandú", "façade", "über", "smörgåsbord"
+    };
+
+    private static final String[] CJK_SENTENCES = {
+            "日本語のテキストを処理します。", "中文测试文本，计算字数。", "한국어 텍스트 처리", "東京は晴れです！", "字数统计"
+    };
+
+    private static final char[] WHITESPACE = {' ', ' ', '\t', '\n', '\r', '\f', '\u000B'};
+
+    private BenchmarkTexts() {
+    }
+
+    static String generate(String kind, int size) {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder(size + 16);
+        switch (kind) {
+            case "ascii" -> fill(text, size, random, ASCII_WORDS, 1);
+            case "unicode" -> fill(text, size, random, UNICODE_WORDS, 1);
+            case "whitespace" -> fill(text, size, random, ASCII_WORDS, 12);
+            case "cjk" -> {
+                while (text.length() < size) {
+                    text.append(CJK_SENTENCES[random.nextInt(CJK_SENTENCES.length)]);
+                }
+            }
+            case "single-token" -> {
+                while (text.length() < size) {
+                    text.append((char) ('a' + random.nextInt(26)));
+                }
+            }
+            default -> throw new IllegalArgumentException("Tipo de texto desconhecido: " + kind);
+        }
+        text.setLength(size);
+        return text.toString();
+    }
+
+    private static void fill(StringBuilder text, int size, Random random, String[] words, int maxSeparatorRun) {
+        while (text.length() < size) {
+            text.append(words[random.nextInt(words.length)]);
+            int run = 1 + random.nextInt(maxSeparatorRun);
+            for (int i = 0; i < run; i++) {
+                text.append(WHITESPACE[random.nextInt(WHITESPACE.length)]);
+            }
+        }
+    }
+}
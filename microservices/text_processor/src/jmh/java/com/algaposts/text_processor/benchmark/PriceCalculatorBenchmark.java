@@ -0,0 +1,31 @@
+package com.algaposts.text_processor.benchmark;
+
+import com.algaposts.shared.text.PriceCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceCalculatorBenchmark {
+
+    @Param({"0", "17", "150000", "1500000"})
+    private int wordCount;
+
+    private PriceCalculator priceCalculator;
+
+    @Setup
+    public void setUp() {
+        priceCalculator = BenchmarkSupport.priceCalculator("0.10");
+    }
+
+    @Benchmark
+    public BigDecimal calculatePrice() {
+        return priceCalculator.calculatePrice(wordCount);
+    }
+}
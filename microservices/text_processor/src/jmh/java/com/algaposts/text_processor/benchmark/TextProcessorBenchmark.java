@@ -0,0 +1,65 @@
+package com.algaposts.text_processor.benchmark;
+
+import com.algaposts.shared.text.impl.TextAnalyzer;
+import com.algaposts.shared.text.impl.TextEvaluator;
+import com.algaposts.text_processor.domain.service.TextProcessor;
+import com.algaposts.text_processor.domain.service.impl.TextProcessorService;
+import com.algaposts.text_processor.infrastructure.cache.WordCountCache;
+import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingMessage;
+import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingResult;
+import com.algaposts.text_processor.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextProcessorBenchmark {
+
+    @Param({"streaming", "simple"})
+    private String strategy;
+
+    @Param({"ascii", "unicode", "whitespace", "single-token"})
+    private String kind;
+
+    @Param({"100", "10000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean cache;
+
+    @Param({"false", "true"})
+    private boolean statistics;
+
+    private TextProcessor textProcessor;
+    private PostProcessingMessage message;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        textProcessor = new TextProcessorService(
+                new TextEvaluator(
+                        BenchmarkSupport.wordCountStrategy(strategy),
+                        BenchmarkSupport.priceCalculator("0.10"),
+                        statistics ? Optional.of(new TextAnalyzer(200)) : Optional.empty()),
+                cache ? Optional.of(new WordCountCache(new SimpleMeterRegistry(), 1_000, 0)) : Optional.empty(),
+                new PipelineMetrics(new SimpleMeterRegistry()),
+                BenchmarkSupport.tokenizerRegistry());
+        message = PostProcessingMessage.builder()
+                .postId(UUID.randomUUID())
+                .postBody(BenchmarkTexts.generate(kind, size))
+                .build();
+    }
+
+    @Benchmark
+    public PostProcessingResult processText() {
+        return textProcessor.processText(message);
+    }
+}
@@ -0,0 +1,38 @@
+package com.algaposts.text_processor.benchmark;
+
+import com.algaposts.shared.text.Tokenizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenizerBenchmark {
+
+    @Param({"whitespace", "unicode", "ascii-fast"})
+    private String tokenizer;
+
+    @Param({"ascii", "unicode", "cjk"})
+    private String kind;
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    private Tokenizer wordTokenizer;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        wordTokenizer = BenchmarkSupport.tokenizerRegistry().get(tokenizer);
+        text = BenchmarkTexts.generate(kind, size);
+    }
+
+    @Benchmark
+    public int countWords() {
+        return wordTokenizer.countWords(text);
+    }
+}
@@ -0,0 +1,38 @@
+package com.algaposts.text_processor.benchmark;
+
+import com.algaposts.shared.text.WordCountStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WordCountBenchmark {
+
+    @Param({"streaming", "simple", "parallel"})
+    private String strategy;
+
+    @Param({"ascii", "unicode", "whitespace", "single-token"})
+    private String kind;
+
+    @Param({"100", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private WordCountStrategy wordCountStrategy;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        wordCountStrategy = BenchmarkSupport.wordCountStrategy(strategy);
+        text = BenchmarkTexts.generate(kind, size);
+    }
+
+    @Benchmark
+    public int countWords() {
+        return wordCountStrategy.countWords(text);
+    }
+}
@@ -2,8 +2,10 @@ package com.algaposts.text_processor;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"com.algaposts.text_processor", "com.algaposts.shared.text"})
+@EnableScheduling
 public class TextProcessorApplication {
 
 	public static void main(String[] args) {
@@ -1,5 +0,0 @@
-package com.algaposts.text_processor.domain.service;
-
-public interface WordCountStrategy {
-    int countWords(String text);
-}
\ No newline at end of file
@@ -1,37 +1,75 @@
 package com.algaposts.text_processor.domain.service.impl;
 
-import com.algaposts.text_processor.domain.service.PriceCalculator;
+import com.algaposts.shared.text.TextEvaluation;
+import com.algaposts.shared.text.TextStatistics;
+import com.algaposts.shared.text.Tokenizer;
+import com.algaposts.shared.text.impl.TextAnalyzer;
+import com.algaposts.shared.text.impl.TextEvaluator;
+import com.algaposts.shared.text.impl.TokenizerRegistry;
 import com.algaposts.text_processor.domain.service.TextProcessor;
-import com.algaposts.text_processor.domain.service.WordCountStrategy;
+import com.algaposts.text_processor.infrastructure.cache.WordCountCache;
 import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingMessage;
+import com.algaposts.text_processor.infrastructure.metrics.PipelineMetrics;
 import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TextProcessorService implements TextProcessor {
 
-    private final WordCountStrategy wordCountStrategy;
-    private final PriceCalculator priceCalculator;
+    private final TextEvaluator textEvaluator;
+    private final Optional<WordCountCache> wordCountCache;
+    private final PipelineMetrics pipelineMetrics;
+    private final TokenizerRegistry tokenizerRegistry;
 
     @Override
     public PostProcessingResult processText(PostProcessingMessage message) {
+        return pipelineMetrics.processing().record(() -> process(message));
+    }
+
+    private PostProcessingResult process(PostProcessingMessage message) {
         log.info("Processando texto para post ID: {}", message.getPostId());
 
-        int wordCount = wordCountStrategy.countWords(message.getPostBody());
-        BigDecimal calculatedValue = priceCalculator.calculatePrice(wordCount);
+        Optional<Tokenizer> tokenizer = tokenizerRegistry.find(message.getTokenizer());
+        if (message.getTokenizer() != null && tokenizer.isEmpty()) {
+            log.warn("Post ID: {} - tokenizer desconhecido '{}', usando a estratégia configurada",
+                    message.getPostId(), message.getTokenizer());
+        }
+        TextEvaluation evaluation = textEvaluator.evaluate(message.getPostBody(), this::analyze,
+                text -> countWords(text, tokenizer), message.getTokenizer() == null);
 
-        log.info("Post ID: {} - Palavras: {} - Valor: {}", message.getPostId(), wordCount, calculatedValue);
+        log.info("Post ID: {} - Palavras: {} - Valor: {}", message.getPostId(), evaluation.wordCount(),
+                evaluation.calculatedValue());
 
         return PostProcessingResult.builder()
                 .postId(message.getPostId())
-                .wordCount(wordCount)
-                .calculatedValue(calculatedValue)
+                .wordCount(evaluation.wordCount())
+                .calculatedValue(evaluation.calculatedValue())
+                .characterCount(evaluation.characterCount())
+                .sentenceCount(evaluation.sentenceCount())
+                .uniqueWordCount(evaluation.uniqueWordCount())
+                .readingTimeSeconds(evaluation.readingTimeSeconds())
                 .build();
     }
-}
\ No newline at end of file
+
+    private TextStatistics analyze(TextAnalyzer analyzer, String text) {
+        return wordCountCache
+                .map(cache -> cache.statistics(text, analyzer::analyze))
+                .orElseGet(() -> analyzer.analyze(text));
+    }
+
+    private int countWords(String text, Optional<Tokenizer> tokenizer) {
+        String variant = tokenizer.map(Tokenizer::getName).orElse("");
+        ToIntFunction<String> counter = tokenizer.<ToIntFunction<String>>map(t -> t::countWords)
+                .orElse(textEvaluator::countWords);
+        return wordCountCache
+                .map(cache -> cache.countWords(text, variant, counter))
+                .orElseGet(() -> counter.applyAsInt(text));
+    }
+}
@@ -0,0 +1,84 @@
+package com.algaposts.text_processor.infrastructure.cache;
+
+public final class ContentHash {
+
+    private static final long PRIME1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME3 = 0x165667B19E3779F9L;
+    private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+    private ContentHash() {
+    }
+
+    public static long xxh64(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        long hash;
+
+        if (length >= 16) {
+            long v1 = PRIME1 + PRIME2;
+            long v2 = PRIME2;
+            long v3 = 0;
+            long v4 = -PRIME1;
+            do {
+                v1 = round(v1, readLong(text, i));
+                v2 = round(v2, readLong(text, i + 4));
+                v3 = round(v3, readLong(text, i + 8));
+                v4 = round(v4, readLong(text, i + 12));
+                i += 16;
+            } while (i <= length - 16);
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = mergeRound(hash, v1);
+            hash = mergeRound(hash, v2);
+            hash = mergeRound(hash, v3);
+            hash = mergeRound(hash, v4);
+        } else {
+            hash = PRIME5;
+        }
+
+        hash += 2L * length;
+
+        for (; i <= length - 4; i += 4) {
+            hash ^= round(0, readLong(text, i));
+            hash = Long.rotateLeft(hash, 27) * PRIME1 + PRIME4;
+        }
+        if (i <= length - 2) {
+            hash ^= (text.charAt(i) | (long) text.charAt(i + 1) << 16) * PRIME1;
+            hash = Long.rotateLeft(hash, 23) * PRIME2 + PRIME3;
+            i += 2;
+        }
+        if (i < length) {
+            char c = text.charAt(i);
+            hash ^= (c & 0xFF) * PRIME5;
+            hash = Long.rotateLeft(hash, 11) * PRIME1;
+            hash ^= (c >>> 8) * PRIME5;
+            hash = Long.rotateLeft(hash, 11) * PRIME1;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= PRIME2;
+        hash ^= hash >>> 29;
+        hash *= PRIME3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+
+    private static long readLong(CharSequence text, int index) {
+        return text.charAt(index)
+                | (long) text.charAt(index + 1) << 16
+                | (long) text.charAt(index + 2) << 32
+                | (long) text.charAt(index + 3) << 48;
+    }
+
+    private static long round(long acc, long input) {
+        acc += input * PRIME2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * PRIME1;
+    }
+
+    private static long mergeRound(long acc, long value) {
+        acc ^= round(0, value);
+        return acc * PRIME1 + PRIME4;
+    }
+}
@@ -0,0 +1,64 @@
+package com.algaposts.text_processor.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.algaposts.shared.text.TextStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+@Component
+@ConditionalOnProperty(name = "text-processor.word-count.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class WordCountCache {
+
+    static final String CACHE_NAME = "word-count";
+    static final String STATISTICS_CACHE_NAME = "text-statistics";
+
+    private final Cache<ContentKey, Integer> cache;
+    private final Cache<ContentKey, TextStatistics> statisticsCache;
+    private final int minLength;
+
+    public WordCountCache(MeterRegistry meterRegistry,
+                          @Value("${text-processor.word-count.cache.maximum-size:100000}") long maximumSize,
+                          @Value("${text-processor.word-count.cache.min-length:256}") int minLength) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.statisticsCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.minLength = minLength;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, statisticsCache, STATISTICS_CACHE_NAME);
+    }
+
+    public int countWords(String text, ToIntFunction<String> wordCounter) {
+        return countWords(text, "", wordCounter);
+    }
+
+    public int countWords(String text, String tokenizer, ToIntFunction<String> wordCounter) {
+        if (text == null || text.length() < minLength) {
+            return wordCounter.applyAsInt(text);
+        }
+        var key = new ContentKey(ContentHash.xxh64(text), text.length(), tokenizer);
+        return cache.get(key, k -> wordCounter.applyAsInt(text));
+    }
+
+    public TextStatistics statistics(String text, Function<String, TextStatistics> analyzer) {
+        if (text == null || text.length() < minLength) {
+            return analyzer.apply(text);
+        }
+        var key = new ContentKey(ContentHash.xxh64(text), text.length(), "");
+        return statisticsCache.get(key, k -> analyzer.apply(text));
+    }
+
+    private record ContentKey(long hash, int length, String tokenizer) {
+    }
+}
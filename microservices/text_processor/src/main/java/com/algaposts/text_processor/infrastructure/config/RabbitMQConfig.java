@@ -1,18 +1,104 @@
 package com.algaposts.text_processor.infrastructure.config;
 
+import com.algaposts.shared.messaging.AdaptiveConcurrencyController;
+import com.algaposts.shared.messaging.AdaptiveConcurrencySettings;
+import com.algaposts.text_processor.infrastructure.messaging.converter.DecompressingMessageConverter;
+import com.algaposts.text_processor.infrastructure.messaging.retry.RetryQueueMessageRecoverer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.HeadersExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 public class RabbitMQConfig {
 
     public static final String QUEUE_TEXT_PROCESSOR = "text-processor-service.post-processing.v1.q";
+    public static final String EXCHANGE_TEXT_PROCESSOR_RETRY = "text-processor-service.retry.v1.e";
+    public static final String RETRY_QUEUE_PREFIX = "text-processor-service.retry.v1.";
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchListenerContainerFactory";
+    public static final String POST_CREATED_AT_HEADER = "x-post-created-at";
+
+    @Bean
+    public MessageConverter messageConverter(ObjectMapper objectMapper) {
+        return new DecompressingMessageConverter(new Jackson2JsonMessageConverter(objectMapper));
+    }
+
+    @Bean
+    public MessageRecoverer messageRecoverer(RabbitTemplate rabbitTemplate,
+                                             @Value("${text-processor.retry.delays-ms:10000,20000}") long[] delaysMs,
+                                             @Value("${text-processor.publisher.confirm-timeout-ms:30000}") long confirmTimeoutMs) {
+        return new RetryQueueMessageRecoverer(rabbitTemplate, EXCHANGE_TEXT_PROCESSOR_RETRY, delaysMs, confirmTimeoutMs);
+    }
+
+    @Bean
+    public Declarables retryQueues(@Value("${text-processor.retry.delays-ms:10000,20000}") long[] delaysMs) {
+        HeadersExchange retryExchange = ExchangeBuilder.headersExchange(EXCHANGE_TEXT_PROCESSOR_RETRY).durable(true).build();
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(retryExchange);
+        for (long delayMs : delaysMs) {
+            Queue retryQueue = QueueBuilder.durable(RETRY_QUEUE_PREFIX + delayMs + "ms.q")
+                    .ttl((int) delayMs)
+                    .deadLetterExchange("")
+                    .deadLetterRoutingKey(QUEUE_TEXT_PROCESSOR)
+                    .build();
+            declarables.add(retryQueue);
+            declarables.add(BindingBuilder.bind(retryQueue).to(retryExchange)
+                    .where(RetryQueueMessageRecoverer.RETRY_DELAY_HEADER).matches(String.valueOf(delayMs)));
+        }
+        return new Declarables(declarables);
+    }
+
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    @ConditionalOnProperty(name = "text-processor.batch.enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${text-processor.batch.size:100}") int batchSize,
+            @Value("${text-processor.batch.receive-timeout-ms:200}") long receiveTimeoutMs) {
+        var factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setBatchReceiveTimeout(receiveTimeoutMs);
+        factory.setPrefetchCount(batchSize);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setAdviceChain();
+        return factory;
+    }
 
     @Bean
-    public Jackson2JsonMessageConverter jackson2JsonMessageConverter(ObjectMapper objectMapper) {
-        return new Jackson2JsonMessageConverter(objectMapper);
+    @ConditionalOnProperty(name = "text-processor.adaptive-concurrency.enabled", havingValue = "true")
+    public AdaptiveConcurrencyController adaptiveConcurrencyController(
+            RabbitListenerEndpointRegistry listenerRegistry, AmqpAdmin amqpAdmin, MeterRegistry meterRegistry,
+            Environment environment, @Value("${spring.rabbitmq.listener.simple.prefetch:250}") int initialPrefetch) {
+        AdaptiveConcurrencySettings settings = Binder.get(environment)
+                .bindOrCreate("text-processor.adaptive-concurrency", AdaptiveConcurrencySettings.class);
+        return new AdaptiveConcurrencyController(listenerRegistry, amqpAdmin, meterRegistry, settings, initialPrefetch);
     }
 }
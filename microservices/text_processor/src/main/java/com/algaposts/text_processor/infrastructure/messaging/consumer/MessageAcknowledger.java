@@ -0,0 +1,52 @@
+package com.algaposts.text_processor.infrastructure.messaging.consumer;
+
+import com.rabbitmq.client.Channel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageAcknowledger {
+
+    private final MessageRecoverer messageRecoverer;
+
+    public void ack(Channel channel, long deliveryTag, boolean multiple) {
+        try {
+            channel.basicAck(deliveryTag, multiple);
+        } catch (IOException e) {
+            log.error("Falha ao confirmar mensagem (delivery tag {}), ela será reentregue", deliveryTag, e);
+        }
+    }
+
+    public void reject(Channel channel, long deliveryTag) {
+        nack(channel, deliveryTag, false);
+    }
+
+    public void retryOrReject(Message message, Throwable cause, Channel channel) {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        try {
+            messageRecoverer.recover(message, cause);
+            ack(channel, deliveryTag, false);
+        } catch (AmqpRejectAndDontRequeueException e) {
+            nack(channel, deliveryTag, false);
+        } catch (Exception e) {
+            log.error("Falha ao agendar nova tentativa (delivery tag {}), devolvendo para a fila", deliveryTag, e);
+            nack(channel, deliveryTag, true);
+        }
+    }
+
+    private void nack(Channel channel, long deliveryTag, boolean requeue) {
+        try {
+            channel.basicNack(deliveryTag, false, requeue);
+        } catch (IOException e) {
+            log.error("Falha ao rejeitar mensagem (delivery tag {}), ela será reentregue", deliveryTag, e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.algaposts.text_processor.infrastructure.messaging.consumer;
+
+import com.algaposts.text_processor.domain.service.TextProcessor;
+import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingMessage;
+import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingResult;
+import com.algaposts.text_processor.infrastructure.messaging.publisher.ResultPublisher;
+import com.algaposts.text_processor.infrastructure.metrics.PipelineMetrics;
+import com.rabbitmq.client.Channel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static com.algaposts.text_processor.infrastructure.config.RabbitMQConfig.BATCH_LISTENER_CONTAINER_FACTORY;
+import static com.algaposts.text_processor.infrastructure.config.RabbitMQConfig.QUEUE_TEXT_PROCESSOR;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "text-processor.batch.enabled", havingValue = "true")
+public class TextProcessorBatchMessageConsumer {
+
+    private final TextProcessor textProcessor;
+    private final ResultPublisher resultPublisher;
+    private final MessageConverter messageConverter;
+    private final MessageAcknowledger messageAcknowledger;
+    private final PipelineMetrics pipelineMetrics;
+
+    @RabbitListener(queues = QUEUE_TEXT_PROCESSOR, containerFactory = BATCH_LISTENER_CONTAINER_FACTORY)
+    public void processTextMessages(List<Message> messages, Channel channel) {
+        log.info("Lote recebido para processamento: {} mensagens", messages.size());
+
+        List<PostProcessingResult> results = new ArrayList<>(messages.size());
+        List<Message> processedMessages = new ArrayList<>(messages.size());
+
+        for (Message message : messages) {
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            pipelineMetrics.recordQueueDwell(message);
+            PostProcessingMessage postProcessingMessage;
+            try {
+                postProcessingMessage = toPostProcessingMessage(message);
+            } catch (Exception e) {
+                log.error("Mensagem inválida no lote (delivery tag {}), enviando para a DLQ", deliveryTag, e);
+                messageAcknowledger.reject(channel, deliveryTag);
+                continue;
+            }
+            try {
+                PostProcessingResult result = textProcessor.processText(postProcessingMessage);
+                result.setPostCreatedAt(PipelineMetrics.postCreatedAt(message));
+                results.add(result);
+                processedMessages.add(message);
+            } catch (Exception e) {
+                log.error("Erro ao processar mensagem do lote (delivery tag {})", deliveryTag, e);
+                messageAcknowledger.retryOrReject(message, e, channel);
+            }
+        }
+
+        if (results.isEmpty()) {
+            return;
+        }
+
+        try {
+            resultPublisher.publishResults(results).join();
+        } catch (CompletionException e) {
+            log.error("Erro ao publicar resultados do lote de {} mensagens", processedMessages.size(), e.getCause());
+            for (Message message : processedMessages) {
+                messageAcknowledger.retryOrReject(message, e.getCause(), channel);
+            }
+            return;
+        }
+
+        messageAcknowledger.ack(channel, processedMessages.getLast().getMessageProperties().getDeliveryTag(), true);
+        log.info("Lote processado com sucesso: {} mensagens", processedMessages.size());
+    }
+
+    private PostProcessingMessage toPostProcessingMessage(Message message) {
+        message.getMessageProperties().setInferredArgumentType(PostProcessingMessage.class);
+        return (PostProcessingMessage) messageConverter.fromMessage(message);
+    }
+}
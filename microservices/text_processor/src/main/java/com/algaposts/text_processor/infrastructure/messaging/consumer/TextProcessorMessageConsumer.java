@@ -4,35 +4,78 @@ import com.algaposts.text_processor.domain.service.TextProcessor;
 import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingMessage;
 import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingResult;
 import com.algaposts.text_processor.infrastructure.messaging.publisher.ResultPublisher;
+import com.algaposts.text_processor.infrastructure.metrics.PipelineMetrics;
+import com.rabbitmq.client.Channel;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static com.algaposts.text_processor.infrastructure.config.RabbitMQConfig.QUEUE_TEXT_PROCESSOR;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "text-processor.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class TextProcessorMessageConsumer {
 
     private final TextProcessor textProcessor;
     private final ResultPublisher resultPublisher;
+    private final MessageConverter messageConverter;
+    private final MessageAcknowledger messageAcknowledger;
+    private final PipelineMetrics pipelineMetrics;
+    private final ExecutorService confirmExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("result-confirm-", 0).factory());
 
-    @RabbitListener(queues = QUEUE_TEXT_PROCESSOR)
-    public void processTextMessage(PostProcessingMessage message) {
+    @RabbitListener(queues = QUEUE_TEXT_PROCESSOR, ackMode = "MANUAL")
+    public void processTextMessage(Message message, Channel channel) {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        pipelineMetrics.recordQueueDwell(message);
+        PostProcessingMessage postProcessingMessage;
         try {
-            log.info("Mensagem recebida para processamento: Post ID {}", message.getPostId());
+            postProcessingMessage = toPostProcessingMessage(message);
+        } catch (Exception e) {
+            log.error("Mensagem inválida (delivery tag {}), enviando para a DLQ", deliveryTag, e);
+            messageAcknowledger.reject(channel, deliveryTag);
+            return;
+        }
 
-            PostProcessingResult result = textProcessor.processText(message);
+        try {
+            log.info("Mensagem recebida para processamento: Post ID {}", postProcessingMessage.getPostId());
 
-            resultPublisher.publishResult(result);
+            PostProcessingResult result = textProcessor.processText(postProcessingMessage);
+            result.setPostCreatedAt(PipelineMetrics.postCreatedAt(message));
 
-            log.info("Processamento concluído com sucesso para Post ID: {}", result.getPostId());
+            resultPublisher.publishResult(result).whenCompleteAsync((ignored, error) -> {
+                if (error == null) {
+                    messageAcknowledger.ack(channel, deliveryTag, false);
+                    log.info("Processamento concluído com sucesso para Post ID: {}", result.getPostId());
+                } else {
+                    log.error("Resultado não confirmado para Post ID: {}", result.getPostId(), error);
+                    messageAcknowledger.retryOrReject(message, error, channel);
+                }
+            }, confirmExecutor);
 
         } catch (Exception e) {
-            log.error("Erro ao processar mensagem para Post ID: {}", message.getPostId(), e);
-            throw e;
+            log.error("Erro ao processar mensagem para Post ID: {}", postProcessingMessage.getPostId(), e);
+            messageAcknowledger.retryOrReject(message, e, channel);
         }
     }
-}
\ No newline at end of file
+
+    @PreDestroy
+    public void shutdown() {
+        confirmExecutor.close();
+    }
+
+    private PostProcessingMessage toPostProcessingMessage(Message message) {
+        message.getMessageProperties().setInferredArgumentType(PostProcessingMessage.class);
+        return (PostProcessingMessage) messageConverter.fromMessage(message);
+    }
+}
@@ -0,0 +1,28 @@
+package com.algaposts.text_processor.infrastructure.messaging.converter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.MessagePropertiesBuilder;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.postprocessor.DelegatingDecompressingPostProcessor;
+
+@RequiredArgsConstructor
+public class DecompressingMessageConverter implements MessageConverter {
+
+    private final DelegatingDecompressingPostProcessor decompressor = new DelegatingDecompressingPostProcessor();
+    private final MessageConverter delegate;
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+        return delegate.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        var copy = new Message(message.getBody(),
+                MessagePropertiesBuilder.fromClonedProperties(message.getMessageProperties()).build());
+        return delegate.fromMessage(decompressor.postProcessMessage(copy));
+    }
+}
@@ -14,4 +14,5 @@ import java.util.UUID;
 public class PostProcessingMessage {
     private UUID postId;
     private String postBody;
+    private String tokenizer;
 }
@@ -1,5 +1,6 @@
 package com.algaposts.text_processor.infrastructure.messaging.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,4 +17,10 @@ public class PostProcessingResult {
     private UUID postId;
     private Integer wordCount;
     private BigDecimal calculatedValue;
+    private Integer characterCount;
+    private Integer sentenceCount;
+    private Integer uniqueWordCount;
+    private Integer readingTimeSeconds;
+    @JsonIgnore
+    private Long postCreatedAt;
 }
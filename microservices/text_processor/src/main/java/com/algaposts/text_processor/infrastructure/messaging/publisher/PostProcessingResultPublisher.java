@@ -1,36 +1,134 @@
-
 package com.algaposts.text_processor.infrastructure.messaging.publisher;
 
 import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingResult;
 import com.algaposts.text_processor.infrastructure.messaging.exception.ResultPublishingException;
-import lombok.RequiredArgsConstructor;
+import com.algaposts.text_processor.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static com.algaposts.text_processor.infrastructure.config.RabbitMQConfig.POST_CREATED_AT_HEADER;
+
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PostProcessingResultPublisher implements ResultPublisher {
 
     private final RabbitTemplate rabbitTemplate;
+    private final PipelineMetrics pipelineMetrics;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final long confirmTimeoutMs;
 
     private static final String EXCHANGE_POST_PROCESS = "post-processing-exchange.v1.e";
     private static final String ROUTING_KEY_POST_RESULTED = "post.resulted";
 
+    public PostProcessingResultPublisher(RabbitTemplate rabbitTemplate,
+                                         PipelineMetrics pipelineMetrics,
+                                         @Value("${text-processor.publisher.max-in-flight:1000}") int maxInFlight,
+                                         @Value("${text-processor.publisher.confirm-timeout-ms:30000}") long confirmTimeoutMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.pipelineMetrics = pipelineMetrics;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+    }
+
+    @Override
+    public CompletableFuture<Void> publishResult(PostProcessingResult result) {
+        log.info("Enviando resultado do processamento para Post ID: {}", result.getPostId());
+        acquire(1);
+        try {
+            CorrelationData correlationData = correlationData(result);
+            Timer.Sample sample = pipelineMetrics.startResultPublish();
+            rabbitTemplate.convertAndSend(EXCHANGE_POST_PROCESS, ROUTING_KEY_POST_RESULTED, result,
+                    headers(result), correlationData);
+            return confirmed(correlationData, result, sample)
+                    .whenComplete((ignored, error) -> inFlight.release());
+        } catch (Exception e) {
+            inFlight.release();
+            log.error("Erro ao enviar resultado para Post ID: {}", result.getPostId(), e);
+            return CompletableFuture.failedFuture(
+                    new ResultPublishingException("Falha ao enviar resultado do processamento", e));
+        }
+    }
+
     @Override
-    public void publishResult(PostProcessingResult result) {
+    public CompletableFuture<Void> publishResults(List<PostProcessingResult> results) {
+        log.info("Enviando lote de {} resultados de processamento", results.size());
+        int permits = Math.min(results.size(), maxInFlight);
+        acquire(permits);
         try {
-            log.info("Enviando resultado do processamento para Post ID: {}", result.getPostId());
+            List<CompletableFuture<Void>> confirms = new ArrayList<>(results.size());
+            rabbitTemplate.invoke(operations -> {
+                for (PostProcessingResult result : results) {
+                    CorrelationData correlationData = correlationData(result);
+                    Timer.Sample sample = pipelineMetrics.startResultPublish();
+                    operations.convertAndSend(EXCHANGE_POST_PROCESS, ROUTING_KEY_POST_RESULTED, result,
+                            headers(result), correlationData);
+                    confirms.add(confirmed(correlationData, result, sample));
+                }
+                return null;
+            });
+            return CompletableFuture.allOf(confirms.toArray(CompletableFuture[]::new))
+                    .whenComplete((ignored, error) -> inFlight.release(permits));
+        } catch (Exception e) {
+            inFlight.release(permits);
+            log.error("Erro ao enviar lote de {} resultados", results.size(), e);
+            return CompletableFuture.failedFuture(
+                    new ResultPublishingException("Falha ao enviar lote de resultados do processamento", e));
+        }
+    }
 
-            rabbitTemplate.convertAndSend(EXCHANGE_POST_PROCESS, ROUTING_KEY_POST_RESULTED, result);
+    private CompletableFuture<Void> confirmed(CorrelationData correlationData, PostProcessingResult result,
+                                              Timer.Sample sample) {
+        return correlationData.getFuture()
+                .orTimeout(confirmTimeoutMs, TimeUnit.MILLISECONDS)
+                .handle((confirm, error) -> {
+                    pipelineMetrics.stopResultPublish(sample,
+                            error == null && confirm.isAck() && correlationData.getReturned() == null);
+                    if (error != null) {
+                        throw new ResultPublishingException("Confirmação não recebida para Post ID: " + result.getPostId(), error);
+                    }
+                    if (!confirm.isAck() || correlationData.getReturned() != null) {
+                        throw new ResultPublishingException("Resultado rejeitado pelo broker para Post ID: "
+                                + result.getPostId() + " (" + confirm.getReason() + ")", null);
+                    }
+                    log.info("Resultado confirmado para Post ID: {} - Palavras: {} - Valor: {}",
+                            result.getPostId(), result.getWordCount(), result.getCalculatedValue());
+                    return null;
+                });
+    }
 
-            log.info("Resultado enviado com sucesso para Post ID: {} - Palavras: {} - Valor: {}",
-                    result.getPostId(), result.getWordCount(), result.getCalculatedValue());
+    private MessagePostProcessor headers(PostProcessingResult result) {
+        return message -> {
+            if (result.getPostCreatedAt() != null) {
+                message.getMessageProperties().setHeader(POST_CREATED_AT_HEADER, result.getPostCreatedAt());
+            }
+            return message;
+        };
+    }
 
-        } catch (Exception e) {
-            log.error("Erro ao enviar resultado para Post ID: {}", result.getPostId(), e);
-            throw new ResultPublishingException("Falha ao enviar resultado do processamento", e);
+    private CorrelationData correlationData(PostProcessingResult result) {
+        return new CorrelationData(result.getPostId() + ":" + UUID.randomUUID());
+    }
+
+    private void acquire(int permits) {
+        try {
+            inFlight.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResultPublishingException("Interrompido aguardando confirmações pendentes", e);
         }
     }
-}
\ No newline at end of file
+}
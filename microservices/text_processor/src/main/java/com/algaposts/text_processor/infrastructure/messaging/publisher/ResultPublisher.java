@@ -2,6 +2,11 @@ package com.algaposts.text_processor.infrastructure.messaging.publisher;
 
 import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingResult;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface ResultPublisher {
-    void publishResult(PostProcessingResult result);
-}
\ No newline at end of file
+    CompletableFuture<Void> publishResult(PostProcessingResult result);
+
+    CompletableFuture<Void> publishResults(List<PostProcessingResult> results);
+}
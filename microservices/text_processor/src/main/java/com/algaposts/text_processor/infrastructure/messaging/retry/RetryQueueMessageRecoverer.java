@@ -0,0 +1,69 @@
+package com.algaposts.text_processor.infrastructure.messaging.retry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RetryQueueMessageRecoverer implements MessageRecoverer {
+
+    public static final String RETRY_ATTEMPT_HEADER = "x-retry-attempt";
+    public static final String RETRY_DELAY_HEADER = "x-retry-delay-ms";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String retryExchange;
+    private final long[] delaysMs;
+    private final long confirmTimeoutMs;
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        MessageProperties properties = message.getMessageProperties();
+        int attempt = attempt(properties);
+        if (attempt >= delaysMs.length) {
+            log.error("Tentativas esgotadas ({}) para mensagem da fila {}, enviando para a DLQ",
+                    attempt + 1, properties.getConsumerQueue());
+            throw new AmqpRejectAndDontRequeueException("Tentativas esgotadas", cause);
+        }
+
+        long delayMs = delaysMs[attempt];
+        properties.setHeader(RETRY_ATTEMPT_HEADER, attempt + 1);
+        properties.setHeader(RETRY_DELAY_HEADER, String.valueOf(delayMs));
+        log.warn("Falha ao processar mensagem da fila {}, nova tentativa {} em {} ms",
+                properties.getConsumerQueue(), attempt + 1, delayMs);
+        var correlationData = new CorrelationData(UUID.randomUUID().toString());
+        rabbitTemplate.send(retryExchange, properties.getReceivedRoutingKey(), message, correlationData);
+        awaitConfirm(correlationData);
+    }
+
+    private void awaitConfirm(CorrelationData correlationData) {
+        CorrelationData.Confirm confirm;
+        try {
+            confirm = correlationData.getFuture().get(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrompido aguardando confirmação da nova tentativa", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new AmqpException("Confirmação da nova tentativa não recebida", e);
+        }
+        if (!confirm.isAck() || correlationData.getReturned() != null) {
+            throw new AmqpException("Nova tentativa rejeitada pelo broker (" + confirm.getReason() + ")");
+        }
+    }
+
+    private int attempt(MessageProperties properties) {
+        Object attempt = properties.getHeader(RETRY_ATTEMPT_HEADER);
+        return attempt instanceof Number number ? number.intValue() : 0;
+    }
+}
@@ -0,0 +1,58 @@
+package com.algaposts.text_processor.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.amqp.core.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static com.algaposts.text_processor.infrastructure.config.RabbitMQConfig.POST_CREATED_AT_HEADER;
+
+@Component
+public class PipelineMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer queueDwell;
+    private final Timer processing;
+
+    public PipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.queueDwell = Timer.builder("post.processing.queue.dwell")
+                .description("Tempo entre a publicação do evento post.created e o seu consumo")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.processing = Timer.builder("post.processing.duration")
+                .description("Tempo de contagem de palavras e cálculo de valor de um post")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public Timer processing() {
+        return processing;
+    }
+
+    public Timer.Sample startResultPublish() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stopResultPublish(Timer.Sample sample, boolean confirmed) {
+        sample.stop(Timer.builder("post.processing.result.publish")
+                .description("Tempo entre o envio do resultado e a confirmação do broker")
+                .tag("outcome", confirmed ? "confirmed" : "failed")
+                .register(meterRegistry));
+    }
+
+    public void recordQueueDwell(Message message) {
+        Date publishedAt = message.getMessageProperties().getTimestamp();
+        if (publishedAt != null) {
+            queueDwell.record(Math.max(0, System.currentTimeMillis() - publishedAt.getTime()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public static Long postCreatedAt(Message message) {
+        Object createdAt = message.getMessageProperties().getHeader(POST_CREATED_AT_HEADER);
+        return createdAt instanceof Number number ? number.longValue() : null;
+    }
+}
@@ -1,9 +1,20 @@
 package com.algaposts.text_processor.domain.service.impl;
 
-import com.algaposts.text_processor.domain.service.PriceCalculator;
-import com.algaposts.text_processor.domain.service.WordCountStrategy;
+import com.algaposts.shared.text.PriceCalculator;
+import com.algaposts.shared.text.WordCountStrategy;
+import com.algaposts.shared.text.impl.AsciiFastTokenizer;
+import com.algaposts.shared.text.impl.SimpleWordCountStrategy;
+import com.algaposts.shared.text.impl.StreamingWordCountStrategy;
+import com.algaposts.shared.text.impl.TextAnalyzer;
+import com.algaposts.shared.text.impl.TextEvaluator;
+import com.algaposts.shared.text.impl.TokenizerRegistry;
+import com.algaposts.shared.text.impl.UnicodeWordTokenizer;
+import com.algaposts.shared.text.impl.WhitespaceTokenizer;
+import com.algaposts.text_processor.infrastructure.cache.WordCountCache;
 import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingMessage;
 import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingResult;
+import com.algaposts.text_processor.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +22,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,7 +44,7 @@ class TextProcessorServiceTest {
 
     @BeforeEach
     void setUp() {
-        textProcessorService = new TextProcessorService(wordCountStrategy, priceCalculator);
+        textProcessorService = service(wordCountStrategy, Optional.empty(), Optional.empty());
     }
 
     @Test
@@ -206,4 +219,139 @@ class TextProcessorServiceTest {
 
         verifyNoMoreInteractions(wordCountStrategy, priceCalculator);
     }
+
+    @Test
+    void shouldReuseWordCountForRepeatedBodyAndRecalculatePrice() {
+
+        textProcessorService = service(wordCountStrategy, Optional.of(new WordCountCache(new SimpleMeterRegistry(), 100, 0)),
+                Optional.empty());
+        String postBody = "Repeated syndicated body";
+        when(wordCountStrategy.countWords(postBody)).thenReturn(3);
+        when(priceCalculator.calculatePrice(3)).thenReturn(new BigDecimal("0.30"));
+
+        PostProcessingResult first = textProcessorService.processText(
+                PostProcessingMessage.builder().postId(UUID.randomUUID()).postBody(postBody).build());
+        PostProcessingResult second = textProcessorService.processText(
+                PostProcessingMessage.builder().postId(UUID.randomUUID()).postBody(new String(postBody)).build());
+
+        assertEquals(3, first.getWordCount());
+        assertEquals(3, second.getWordCount());
+        verify(wordCountStrategy, times(1)).countWords(postBody);
+        verify(priceCalculator, times(2)).calculatePrice(3);
+    }
+
+    @Test
+    void shouldCountWithTokenizerRequestedByMessage() {
+
+        String postBody = "中文测试 -- hello, world!";
+        when(priceCalculator.calculatePrice(6)).thenReturn(new BigDecimal("0.60"));
+
+        PostProcessingResult result = textProcessorService.processText(PostProcessingMessage.builder()
+                .postId(UUID.randomUUID()).postBody(postBody).tokenizer(UnicodeWordTokenizer.NAME).build());
+
+        assertEquals(6, result.getWordCount());
+        verifyNoInteractions(wordCountStrategy);
+    }
+
+    @Test
+    void shouldFallBackToConfiguredStrategyForUnknownTokenizer() {
+
+        String postBody = "Hello world";
+        when(wordCountStrategy.countWords(postBody)).thenReturn(2);
+        when(priceCalculator.calculatePrice(2)).thenReturn(new BigDecimal("0.20"));
+
+        PostProcessingResult result = textProcessorService.processText(PostProcessingMessage.builder()
+                .postId(UUID.randomUUID()).postBody(postBody).tokenizer("desconhecido").build());
+
+        assertEquals(2, result.getWordCount());
+    }
+
+    @Test
+    void shouldNotShareCachedCountsBetweenTokenizers() {
+
+        textProcessorService = service(wordCountStrategy, Optional.of(new WordCountCache(new SimpleMeterRegistry(), 100, 0)),
+                Optional.empty());
+        String postBody = "hello , world";
+        when(wordCountStrategy.countWords(postBody)).thenReturn(3);
+
+        PostProcessingResult configured = textProcessorService.processText(
+                PostProcessingMessage.builder().postId(UUID.randomUUID()).postBody(postBody).build());
+        PostProcessingResult unicode = textProcessorService.processText(PostProcessingMessage.builder()
+                .postId(UUID.randomUUID()).postBody(postBody).tokenizer(UnicodeWordTokenizer.NAME).build());
+
+        assertEquals(3, configured.getWordCount());
+        assertEquals(2, unicode.getWordCount());
+    }
+
+    @Test
+    void shouldComputeStatisticsAndReuseWordCountInSinglePass() {
+
+        textProcessorService = service(new StreamingWordCountStrategy(), Optional.empty(), Optional.of(new TextAnalyzer(120)));
+        when(priceCalculator.calculatePrice(5)).thenReturn(new BigDecimal("0.50"));
+
+        PostProcessingResult result = textProcessorService.processText(PostProcessingMessage.builder()
+                .postId(UUID.randomUUID()).postBody("Olá mundo. Olá de novo").build());
+
+        assertEquals(5, result.getWordCount());
+        assertEquals(22, result.getCharacterCount());
+        assertEquals(2, result.getSentenceCount());
+        assertEquals(4, result.getUniqueWordCount());
+        assertEquals(3, result.getReadingTimeSeconds());
+    }
+
+    @Test
+    void shouldBillWithConfiguredStrategyWhenItDiffersFromAnalyzer() {
+
+        textProcessorService = service(wordCountStrategy, Optional.empty(), Optional.of(new TextAnalyzer(60)));
+        String postBody = "Hello world";
+        when(wordCountStrategy.countWords(postBody)).thenReturn(3);
+        when(priceCalculator.calculatePrice(3)).thenReturn(new BigDecimal("0.30"));
+
+        PostProcessingResult result = textProcessorService.processText(
+                PostProcessingMessage.builder().postId(UUID.randomUUID()).postBody(postBody).build());
+
+        assertEquals(3, result.getWordCount());
+        assertEquals(2, result.getUniqueWordCount());
+        assertEquals(3, result.getReadingTimeSeconds());
+    }
+
+    @Test
+    void shouldCapUniqueWordCountAtBilledWordCount() {
+
+        textProcessorService = service(wordCountStrategy, Optional.empty(), Optional.of(new TextAnalyzer(60)));
+        String postBody = "Hello world";
+        when(wordCountStrategy.countWords(postBody)).thenReturn(1);
+        when(priceCalculator.calculatePrice(1)).thenReturn(new BigDecimal("0.10"));
+
+        PostProcessingResult result = textProcessorService.processText(
+                PostProcessingMessage.builder().postId(UUID.randomUUID()).postBody(postBody).build());
+
+        assertEquals(1, result.getWordCount());
+        assertEquals(1, result.getUniqueWordCount());
+    }
+
+    @Test
+    void shouldReuseAnalyzerWordCountForAnyWhitespaceSplittingStrategy() {
+
+        WordCountStrategy simple = spy(new SimpleWordCountStrategy());
+        textProcessorService = service(simple, Optional.empty(), Optional.of(new TextAnalyzer(200)));
+        when(priceCalculator.calculatePrice(3)).thenReturn(new BigDecimal("0.30"));
+
+        PostProcessingResult result = textProcessorService.processText(
+                PostProcessingMessage.builder().postId(UUID.randomUUID()).postBody("um dois três").build());
+
+        assertEquals(3, result.getWordCount());
+        verify(simple, never()).countWords(anyString());
+    }
+
+    private TextProcessorService service(WordCountStrategy strategy, Optional<WordCountCache> cache,
+                                         Optional<TextAnalyzer> analyzer) {
+        return new TextProcessorService(new TextEvaluator(strategy, priceCalculator, analyzer), cache,
+                new PipelineMetrics(new SimpleMeterRegistry()), tokenizerRegistry());
+    }
+
+    private static TokenizerRegistry tokenizerRegistry() {
+        UnicodeWordTokenizer unicode = new UnicodeWordTokenizer();
+        return new TokenizerRegistry(List.of(new WhitespaceTokenizer(), unicode, new AsciiFastTokenizer(unicode)));
+    }
 }
@@ -0,0 +1,25 @@
+package com.algaposts.text_processor.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentHashTest {
+
+    @Test
+    void shouldMatchReferenceXxh64OfUtf16LeBytes() {
+
+        assertEquals(0xEF46DB3751D8E999L, ContentHash.xxh64(""));
+        assertEquals(0x76DDFC4B477A0D1AL, ContentHash.xxh64("Olá"));
+        assertEquals(0x666F8E6F72519F64L, ContentHash.xxh64("Olá, mundo! Texto de teste para o hash de conteúdo."));
+    }
+
+    @Test
+    void shouldHashEqualContentEqually() {
+
+        String text = "conteúdo repetido ".repeat(100);
+
+        assertEquals(ContentHash.xxh64(text), ContentHash.xxh64(new StringBuilder(text)));
+        assertNotEquals(ContentHash.xxh64(text), ContentHash.xxh64(text + " "));
+    }
+}
@@ -0,0 +1,92 @@
+package com.algaposts.text_processor.infrastructure.cache;
+
+import com.algaposts.shared.text.TextStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordCountCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WordCountCache wordCountCache;
+    private AtomicInteger invocations;
+    private ToIntFunction<String> counter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        wordCountCache = new WordCountCache(meterRegistry, 100, 10);
+        invocations = new AtomicInteger();
+        counter = text -> {
+            invocations.incrementAndGet();
+            return text == null ? 0 : text.split(" ").length;
+        };
+    }
+
+    @Test
+    void shouldCountIdenticalBodiesOnlyOnce() {
+
+        String body = "one two three four five";
+
+        assertEquals(5, wordCountCache.countWords(body, counter));
+        assertEquals(5, wordCountCache.countWords(new String(body), counter));
+
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    void shouldCountDifferentBodiesSeparately() {
+
+        assertEquals(5, wordCountCache.countWords("one two three four five", counter));
+        assertEquals(4, wordCountCache.countWords("one two three four", counter));
+
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    void shouldBypassCacheForShortOrNullBodies() {
+
+        wordCountCache.countWords("one two", counter);
+        wordCountCache.countWords("one two", counter);
+        wordCountCache.countWords(null, counter);
+
+        assertEquals(3, invocations.get());
+    }
+
+    @Test
+    void shouldExposeHitAndMissMetrics() {
+
+        String body = "one two three four five";
+        wordCountCache.countWords(body, counter);
+        wordCountCache.countWords(body, counter);
+        wordCountCache.countWords(body, counter);
+
+        assertEquals(2, meterRegistry.get("cache.gets").tag("cache", WordCountCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", WordCountCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void shouldCacheStatisticsSeparatelyFromWordCounts() {
+
+        String body = "one two three four five";
+        var statistics = new TextStatistics(5, body.length(), 1, 5);
+
+        wordCountCache.countWords(body, counter);
+        assertEquals(statistics, wordCountCache.statistics(body, text -> {
+            invocations.incrementAndGet();
+            return statistics;
+        }));
+        assertEquals(statistics, wordCountCache.statistics(new String(body), text -> fail()));
+
+        assertEquals(2, invocations.get());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", WordCountCache.STATISTICS_CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+    }
+}
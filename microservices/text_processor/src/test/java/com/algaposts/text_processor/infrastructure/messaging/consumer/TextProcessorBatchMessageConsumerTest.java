@@ -0,0 +1,158 @@
+package com.algaposts.text_processor.infrastructure.messaging.consumer;
+
+import com.algaposts.text_processor.domain.service.TextProcessor;
+import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingMessage;
+import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingResult;
+import com.algaposts.text_processor.infrastructure.messaging.exception.ResultPublishingException;
+import com.algaposts.text_processor.infrastructure.messaging.publisher.ResultPublisher;
+import com.algaposts.text_processor.infrastructure.metrics.PipelineMetrics;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TextProcessorBatchMessageConsumerTest {
+
+    @Mock
+    private TextProcessor textProcessor;
+
+    @Mock
+    private ResultPublisher resultPublisher;
+
+    @Mock
+    private Channel channel;
+
+    @Mock
+    private MessageRecoverer messageRecoverer;
+
+    private TextProcessorBatchMessageConsumer consumer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new TextProcessorBatchMessageConsumer(textProcessor, resultPublisher, new Jackson2JsonMessageConverter(),
+                new MessageAcknowledger(messageRecoverer), new PipelineMetrics(meterRegistry));
+    }
+
+    @Test
+    void shouldPublishAllResultsAndAckBatchWithSingleMultipleAck() throws Exception {
+
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        when(textProcessor.processText(any(PostProcessingMessage.class)))
+                .thenAnswer(invocation -> result(invocation.<PostProcessingMessage>getArgument(0).getPostId()));
+
+        when(resultPublisher.publishResults(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+        consumer.processTextMessages(List.of(message(1, firstId), message(2, secondId)), channel);
+
+        verify(resultPublisher).publishResults(List.of(result(firstId), result(secondId)));
+        verify(channel).basicAck(2, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void shouldScheduleRetryOnlyForFailedMessageAndAckTheRest() throws Exception {
+
+        UUID okId = UUID.randomUUID();
+        UUID failingId = UUID.randomUUID();
+        when(textProcessor.processText(argThat(m -> m != null && okId.equals(m.getPostId())))).thenReturn(result(okId));
+        when(textProcessor.processText(argThat(m -> m != null && failingId.equals(m.getPostId()))))
+                .thenThrow(new RuntimeException("Erro de processamento"));
+
+        Message failing = message(1, failingId);
+        when(resultPublisher.publishResults(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+
+        consumer.processTextMessages(List.of(failing, message(2, okId)), channel);
+
+        verify(messageRecoverer).recover(eq(failing), any(RuntimeException.class));
+        verify(channel).basicAck(1, false);
+        verify(resultPublisher).publishResults(List.of(result(okId)));
+        verify(channel).basicAck(2, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void shouldNackFailedMessageWhenRetriesAreExhausted() throws Exception {
+
+        when(textProcessor.processText(any(PostProcessingMessage.class)))
+                .thenThrow(new RuntimeException("Erro de processamento"));
+        doThrow(new AmqpRejectAndDontRequeueException("Tentativas esgotadas"))
+                .when(messageRecoverer).recover(any(Message.class), any(Throwable.class));
+
+        consumer.processTextMessages(List.of(message(1, UUID.randomUUID())), channel);
+
+        verify(channel).basicNack(1, false, false);
+        verifyNoInteractions(resultPublisher);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void shouldNackMessageThatCannotBeConverted() throws Exception {
+
+        Message invalid = MessageBuilder.withBody("not-json".getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setDeliveryTag(7L)
+                .build();
+
+        consumer.processTextMessages(List.of(invalid), channel);
+
+        verify(channel).basicNack(7, false, false);
+        verifyNoInteractions(textProcessor, resultPublisher);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void shouldScheduleRetryForEachProcessedMessageWhenPublishingFails() throws Exception {
+
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        when(textProcessor.processText(any(PostProcessingMessage.class)))
+                .thenAnswer(invocation -> result(invocation.<PostProcessingMessage>getArgument(0).getPostId()));
+        when(resultPublisher.publishResults(anyList()))
+                .thenReturn(CompletableFuture.failedFuture(new ResultPublishingException("Falha", new RuntimeException())));
+
+        consumer.processTextMessages(List.of(message(1, firstId), message(2, secondId)), channel);
+
+        verify(messageRecoverer, times(2)).recover(any(Message.class), any(ResultPublishingException.class));
+        verify(channel).basicAck(1, false);
+        verify(channel).basicAck(2, false);
+        verify(channel, never()).basicAck(anyLong(), eq(true));
+    }
+
+    private Message message(long deliveryTag, UUID postId) {
+        String json = "{\"postId\":\"" + postId + "\",\"postBody\":\"Hello world\"}";
+        return MessageBuilder.withBody(json.getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setDeliveryTag(deliveryTag)
+                .build();
+    }
+
+    private PostProcessingResult result(UUID postId) {
+        return PostProcessingResult.builder()
+                .postId(postId)
+                .wordCount(2)
+                .calculatedValue(new BigDecimal("0.20"))
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.algaposts.text_processor.infrastructure.messaging.consumer;
+
+import com.algaposts.text_processor.domain.service.TextProcessor;
+import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingMessage;
+import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingResult;
+import com.algaposts.text_processor.infrastructure.messaging.exception.ResultPublishingException;
+import com.algaposts.text_processor.infrastructure.messaging.publisher.ResultPublisher;
+import com.algaposts.text_processor.infrastructure.metrics.PipelineMetrics;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TextProcessorMessageConsumerTest {
+
+    @Mock
+    private TextProcessor textProcessor;
+
+    @Mock
+    private ResultPublisher resultPublisher;
+
+    @Mock
+    private MessageRecoverer messageRecoverer;
+
+    @Mock
+    private Channel channel;
+
+    private TextProcessorMessageConsumer consumer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new TextProcessorMessageConsumer(textProcessor, resultPublisher, new Jackson2JsonMessageConverter(),
+                new MessageAcknowledger(messageRecoverer), new PipelineMetrics(meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.shutdown();
+    }
+
+    @Test
+    void shouldAckInputOnlyAfterResultIsConfirmed() throws Exception {
+
+        UUID postId = UUID.randomUUID();
+        CompletableFuture<Void> confirm = new CompletableFuture<>();
+        when(textProcessor.processText(any(PostProcessingMessage.class))).thenReturn(result(postId));
+        when(resultPublisher.publishResult(result(postId))).thenReturn(confirm);
+
+        consumer.processTextMessage(message(3, postId), channel);
+
+        verifyNoInteractions(channel);
+
+        confirm.complete(null);
+
+        verify(channel, timeout(1000)).basicAck(3, false);
+    }
+
+    @Test
+    void shouldAcknowledgeOutsideTheConfirmCallbackThread() throws Exception {
+
+        UUID postId = UUID.randomUUID();
+        CompletableFuture<Void> confirm = new CompletableFuture<>();
+        CompletableFuture<Thread> ackThread = new CompletableFuture<>();
+        when(textProcessor.processText(any(PostProcessingMessage.class))).thenReturn(result(postId));
+        when(resultPublisher.publishResult(result(postId))).thenReturn(confirm);
+        doAnswer(invocation -> ackThread.complete(Thread.currentThread())).when(channel).basicAck(3, false);
+
+        consumer.processTextMessage(message(3, postId), channel);
+        confirm.complete(null);
+
+        Thread thread = ackThread.get(1, TimeUnit.SECONDS);
+        assertNotSame(Thread.currentThread(), thread);
+        assertTrue(thread.getName().startsWith("result-confirm-"));
+    }
+
+    @Test
+    void shouldConfirmRetryPublishBeforeAckingInput() throws Exception {
+
+        UUID postId = UUID.randomUUID();
+        Message message = message(3, postId);
+        when(textProcessor.processText(any(PostProcessingMessage.class))).thenReturn(result(postId));
+        when(resultPublisher.publishResult(any(PostProcessingResult.class)))
+                .thenReturn(CompletableFuture.failedFuture(new ResultPublishingException("nack", null)));
+        doThrow(new AmqpException("retry não confirmado")).when(messageRecoverer).recover(eq(message), any());
+
+        consumer.processTextMessage(message, channel);
+
+        verify(channel, timeout(1000)).basicNack(3, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void shouldCarryPostCreatedAtToResultAndRecordQueueDwell() {
+
+        UUID postId = UUID.randomUUID();
+        Message message = message(3, postId);
+        message.getMessageProperties().setHeader("x-post-created-at", 1_700_000_000_000L);
+        message.getMessageProperties().setTimestamp(new Date(System.currentTimeMillis() - 500));
+        when(textProcessor.processText(any(PostProcessingMessage.class))).thenReturn(result(postId));
+        when(resultPublisher.publishResult(any(PostProcessingResult.class))).thenReturn(new CompletableFuture<>());
+
+        consumer.processTextMessage(message, channel);
+
+        verify(resultPublisher).publishResult(argThat(result -> result.getPostCreatedAt() == 1_700_000_000_000L));
+        assertEquals(1, meterRegistry.get("post.processing.queue.dwell").timer().count());
+        assertTrue(meterRegistry.get("post.processing.queue.dwell").timer().totalTime(TimeUnit.MILLISECONDS) >= 500);
+    }
+
+    @Test
+    void shouldScheduleRetryWhenResultIsNotConfirmed() throws Exception {
+
+        UUID postId = UUID.randomUUID();
+        Message message = message(3, postId);
+        when(textProcessor.processText(any(PostProcessingMessage.class))).thenReturn(result(postId));
+        when(resultPublisher.publishResult(any(PostProcessingResult.class)))
+                .thenReturn(CompletableFuture.failedFuture(new ResultPublishingException("nack", null)));
+
+        consumer.processTextMessage(message, channel);
+
+        InOrder inOrder = inOrder(messageRecoverer, channel);
+        inOrder.verify(messageRecoverer, timeout(1000)).recover(eq(message), any(ResultPublishingException.class));
+        inOrder.verify(channel, timeout(1000)).basicAck(3, false);
+    }
+
+    @Test
+    void shouldScheduleRetryWhenProcessingFails() throws Exception {
+
+        Message message = message(3, UUID.randomUUID());
+        when(textProcessor.processText(any(PostProcessingMessage.class))).thenThrow(new RuntimeException("Erro"));
+
+        consumer.processTextMessage(message, channel);
+
+        verify(messageRecoverer).recover(eq(message), any(RuntimeException.class));
+        verifyNoInteractions(resultPublisher);
+    }
+
+    @Test
+    void shouldRejectMessageThatCannotBeConverted() throws Exception {
+
+        Message invalid = MessageBuilder.withBody("not-json".getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setDeliveryTag(7L)
+                .build();
+
+        consumer.processTextMessage(invalid, channel);
+
+        verify(channel).basicNack(7, false, false);
+        verifyNoInteractions(textProcessor, resultPublisher, messageRecoverer);
+    }
+
+    private Message message(long deliveryTag, UUID postId) {
+        String json = "{\"postId\":\"" + postId + "\",\"postBody\":\"Hello world\"}";
+        return MessageBuilder.withBody(json.getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setDeliveryTag(deliveryTag)
+                .build();
+    }
+
+    private PostProcessingResult result(UUID postId) {
+        return PostProcessingResult.builder()
+                .postId(postId)
+                .wordCount(2)
+                .calculatedValue(new BigDecimal("0.20"))
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.algaposts.text_processor.infrastructure.messaging.converter;
+
+import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingMessage;
+import com.algaposts.text_processor.infrastructure.messaging.retry.RetryQueueMessageRecoverer;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.postprocessor.GZipPostProcessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class DecompressingMessageConverterTest {
+
+    private final DecompressingMessageConverter converter =
+            new DecompressingMessageConverter(new Jackson2JsonMessageConverter());
+
+    @Test
+    void shouldConvertUncompressedMessage() {
+
+        UUID postId = UUID.randomUUID();
+
+        PostProcessingMessage result = (PostProcessingMessage) converter.fromMessage(message(postId, "Hello world"));
+
+        assertEquals(postId, result.getPostId());
+        assertEquals("Hello world", result.getPostBody());
+    }
+
+    @Test
+    void shouldDecompressGzipMessageBeforeConverting() {
+
+        UUID postId = UUID.randomUUID();
+        String body = "Hello world ".repeat(1000);
+        Message compressed = new GZipPostProcessor().postProcessMessage(message(postId, body));
+        assertTrue(compressed.getMessageProperties().getContentEncoding().startsWith("gzip"));
+
+        PostProcessingMessage result = (PostProcessingMessage) converter.fromMessage(compressed);
+
+        assertEquals(postId, result.getPostId());
+        assertEquals(body, result.getPostBody());
+    }
+
+    @Test
+    void shouldParseCompressedMessageAgainAfterRetry() {
+
+        UUID postId = UUID.randomUUID();
+        String body = "Hello world ".repeat(1000);
+        Message compressed = new GZipPostProcessor().postProcessMessage(message(postId, body));
+        compressed.getMessageProperties().setReceivedRoutingKey("post.created");
+        byte[] compressedBody = compressed.getBody();
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        doAnswer(invocation -> invocation.<CorrelationData>getArgument(3).getFuture()
+                .complete(new CorrelationData.Confirm(true, null)))
+                .when(rabbitTemplate).send(eq("retry"), eq("post.created"), any(Message.class), any(CorrelationData.class));
+        var recoverer = new RetryQueueMessageRecoverer(rabbitTemplate, "retry", new long[]{1000}, 1000);
+
+        converter.fromMessage(compressed);
+        recoverer.recover(compressed, new RuntimeException("Falha"));
+
+        ArgumentCaptor<Message> retried = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq("retry"), eq("post.created"), retried.capture(), any(CorrelationData.class));
+        assertSame(compressedBody, retried.getValue().getBody());
+        assertTrue(retried.getValue().getMessageProperties().getContentEncoding().startsWith("gzip"));
+        PostProcessingMessage result = (PostProcessingMessage) converter.fromMessage(retried.getValue());
+        assertEquals(postId, result.getPostId());
+        assertEquals(body, result.getPostBody());
+    }
+
+    private Message message(UUID postId, String body) {
+        String json = "{\"postId\":\"" + postId + "\",\"postBody\":\"" + body + "\"}";
+        Message message = MessageBuilder.withBody(json.getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding("UTF-8")
+                .build();
+        message.getMessageProperties().setInferredArgumentType(PostProcessingMessage.class);
+        return message;
+    }
+}
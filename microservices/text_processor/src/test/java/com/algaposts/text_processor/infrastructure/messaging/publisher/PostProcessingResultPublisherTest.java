@@ -0,0 +1,152 @@
+package com.algaposts.text_processor.infrastructure.messaging.publisher;
+
+import com.algaposts.text_processor.infrastructure.messaging.dto.PostProcessingResult;
+import com.algaposts.text_processor.infrastructure.messaging.exception.ResultPublishingException;
+import com.algaposts.text_processor.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostProcessingResultPublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private PostProcessingResultPublisher publisher;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new PostProcessingResultPublisher(rabbitTemplate, new PipelineMetrics(meterRegistry), 1, 30_000);
+    }
+
+    @Test
+    void shouldCompleteOnlyAfterBrokerConfirmAndReleaseInFlightSlot() {
+
+        CompletableFuture<Void> future = publisher.publishResult(result());
+
+        CorrelationData correlationData = sentCorrelationData();
+        assertFalse(future.isDone());
+
+        correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        assertDoesNotThrow(() -> future.join());
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> publisher.publishResult(result()));
+    }
+
+    @Test
+    void shouldCopyPostCreatedAtHeaderAndRecordConfirmLatency() {
+
+        PostProcessingResult result = result();
+        result.setPostCreatedAt(1_700_000_000_000L);
+
+        publisher.publishResult(result);
+
+        ArgumentCaptor<MessagePostProcessor> postProcessor = ArgumentCaptor.forClass(MessagePostProcessor.class);
+        ArgumentCaptor<CorrelationData> correlationData = ArgumentCaptor.forClass(CorrelationData.class);
+        verify(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), postProcessor.capture(),
+                correlationData.capture());
+        Message message = postProcessor.getValue().postProcessMessage(new Message(new byte[0]));
+        assertEquals(1_700_000_000_000L, (Long) message.getMessageProperties().getHeader("x-post-created-at"));
+
+        correlationData.getValue().getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        assertEquals(1, meterRegistry.get("post.processing.result.publish").tag("outcome", "confirmed").timer().count());
+    }
+
+    @Test
+    void shouldFailWhenBrokerNacks() {
+
+        CompletableFuture<Void> future = publisher.publishResult(result());
+
+        sentCorrelationData().getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(ResultPublishingException.class, exception.getCause());
+    }
+
+    @Test
+    void shouldFailWhenMessageIsReturnedAsUnroutable() {
+
+        CompletableFuture<Void> future = publisher.publishResult(result());
+
+        CorrelationData correlationData = sentCorrelationData();
+        correlationData.setReturned(new ReturnedMessage(new Message(new byte[0]), 312, "NO_ROUTE", "exchange", "key"));
+        correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        assertThrows(CompletionException.class, future::join);
+    }
+
+    @Test
+    void shouldFailImmediatelyWhenSendThrows() {
+
+        doThrow(new AmqpConnectException(new RuntimeException("down")))
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(MessagePostProcessor.class),
+                        any(CorrelationData.class));
+
+        CompletableFuture<Void> future = publisher.publishResult(result());
+
+        assertTrue(future.isCompletedExceptionally());
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> publisher.publishResult(result()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCompleteBatchWhenEveryResultIsConfirmed() {
+
+        publisher = new PostProcessingResultPublisher(rabbitTemplate, new PipelineMetrics(meterRegistry), 10, 30_000);
+        RabbitOperations operations = mock(RabbitOperations.class);
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<Object>>getArgument(0).doInRabbit(operations));
+
+        CompletableFuture<Void> future = publisher.publishResults(List.of(result(), result()));
+
+        ArgumentCaptor<CorrelationData> captor = ArgumentCaptor.forClass(CorrelationData.class);
+        verify(operations, times(2)).convertAndSend(eq("post-processing-exchange.v1.e"), eq("post.resulted"),
+                any(Object.class), any(MessagePostProcessor.class), captor.capture());
+        captor.getAllValues().get(0).getFuture().complete(new CorrelationData.Confirm(true, null));
+        assertFalse(future.isDone());
+        captor.getAllValues().get(1).getFuture().complete(new CorrelationData.Confirm(true, null));
+        assertDoesNotThrow(() -> future.join());
+    }
+
+    private CorrelationData sentCorrelationData() {
+        ArgumentCaptor<CorrelationData> captor = ArgumentCaptor.forClass(CorrelationData.class);
+        verify(rabbitTemplate, atLeastOnce()).convertAndSend(eq("post-processing-exchange.v1.e"), eq("post.resulted"),
+                any(Object.class), any(MessagePostProcessor.class), captor.capture());
+        return captor.getValue();
+    }
+
+    private PostProcessingResult result() {
+        return PostProcessingResult.builder()
+                .postId(UUID.randomUUID())
+                .wordCount(2)
+                .calculatedValue(new BigDecimal("0.20"))
+                .build();
+    }
+}
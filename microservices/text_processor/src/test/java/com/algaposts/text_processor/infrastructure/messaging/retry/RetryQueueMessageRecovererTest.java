@@ -0,0 +1,106 @@
+package com.algaposts.text_processor.infrastructure.messaging.retry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RetryQueueMessageRecovererTest {
+
+    private static final String RETRY_EXCHANGE = "retry-exchange";
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private RetryQueueMessageRecoverer recoverer;
+
+    @BeforeEach
+    void setUp() {
+        recoverer = new RetryQueueMessageRecoverer(rabbitTemplate, RETRY_EXCHANGE, new long[]{10000, 20000}, 50);
+    }
+
+    @Test
+    void shouldPublishToFirstRetryTierAndWaitForConfirm() {
+
+        whenSendIsConfirmed(correlationData -> correlationData.getFuture().complete(new CorrelationData.Confirm(true, null)));
+        Message message = message(null);
+
+        recoverer.recover(message, new RuntimeException("Erro"));
+
+        verify(rabbitTemplate).send(eq(RETRY_EXCHANGE), eq("post.created"), eq(message), any(CorrelationData.class));
+        assertEquals(1, (Integer) message.getMessageProperties().getHeader(RetryQueueMessageRecoverer.RETRY_ATTEMPT_HEADER));
+        assertEquals("10000", message.getMessageProperties().getHeader(RetryQueueMessageRecoverer.RETRY_DELAY_HEADER));
+    }
+
+    @Test
+    void shouldUseNextDelayTier() {
+
+        whenSendIsConfirmed(correlationData -> correlationData.getFuture().complete(new CorrelationData.Confirm(true, null)));
+        Message message = message(1);
+
+        recoverer.recover(message, new RuntimeException("Erro"));
+
+        assertEquals(2, (Integer) message.getMessageProperties().getHeader(RetryQueueMessageRecoverer.RETRY_ATTEMPT_HEADER));
+        assertEquals("20000", message.getMessageProperties().getHeader(RetryQueueMessageRecoverer.RETRY_DELAY_HEADER));
+    }
+
+    @Test
+    void shouldFailWhenRetryIsNackedReturnedOrNotConfirmed() {
+
+        whenSendIsConfirmed(correlationData -> correlationData.getFuture().complete(new CorrelationData.Confirm(false, "nack")));
+        assertThrows(AmqpException.class, () -> recoverer.recover(message(null), new RuntimeException("Erro")));
+
+        whenSendIsConfirmed(correlationData -> {
+            correlationData.setReturned(new ReturnedMessage(message(null), 312, "NO_ROUTE", RETRY_EXCHANGE, "post.created"));
+            correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+        });
+        assertThrows(AmqpException.class, () -> recoverer.recover(message(null), new RuntimeException("Erro")));
+
+        whenSendIsConfirmed(correlationData -> { });
+        assertThrows(AmqpException.class, () -> recoverer.recover(message(null), new RuntimeException("Erro")));
+    }
+
+    @Test
+    void shouldRejectWhenRetriesAreExhausted() {
+
+        Message message = message(2);
+
+        assertThrows(AmqpRejectAndDontRequeueException.class,
+                () -> recoverer.recover(message, new RuntimeException("Erro")));
+
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    private void whenSendIsConfirmed(Consumer<CorrelationData> broker) {
+        doAnswer(invocation -> {
+            broker.accept(invocation.getArgument(3));
+            return null;
+        }).when(rabbitTemplate).send(eq(RETRY_EXCHANGE), eq("post.created"), any(Message.class), any(CorrelationData.class));
+    }
+
+    private Message message(Integer attempt) {
+        var builder = MessageBuilder.withBody("{}".getBytes(StandardCharsets.UTF_8))
+                .setReceivedRoutingKey("post.created");
+        if (attempt != null) {
+            builder.setHeader(RetryQueueMessageRecoverer.RETRY_ATTEMPT_HEADER, attempt);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,25 @@
+#!/usr/bin/env bash
+# Carga HTTP no PostService usando hey (https://github.com/rakyll/hey).
+# Rode uma vez com spring.threads.virtual.enabled=false e outra com true e compare
+# "Requests/sec" e a linha "99%" da distribuição de latência.
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+REQUESTS="${REQUESTS:-20000}"
+CONCURRENCY="${CONCURRENCY:-400}"
+
+command -v hey >/dev/null || { echo "hey não encontrado: go install github.com/rakyll/hey@latest"; exit 1; }
+
+BODY='{"title":"Carga","body":"Lorem ipsum dolor sit amet, consectetur adipiscing elit.","author":"load-test"}'
+
+echo "== POST /api/posts (${REQUESTS} requisições, concorrência ${CONCURRENCY})"
+hey -n "$REQUESTS" -c "$CONCURRENCY" -m POST -T application/json -d "$BODY" "$BASE_URL/api/posts"
+
+POST_ID=$(curl -s -X POST -H 'Content-Type: application/json' -d "$BODY" "$BASE_URL/api/posts" \
+  | sed -E 's/.*"id":"([^"]+)".*/\1/')
+
+echo "== GET /api/posts/${POST_ID}"
+hey -n "$REQUESTS" -c "$CONCURRENCY" "$BASE_URL/api/posts/$POST_ID"
+
+echo "== GET /api/posts?page=0&size=20"
+hey -n "$REQUESTS" -c "$CONCURRENCY" "$BASE_URL/api/posts?page=0&size=20"